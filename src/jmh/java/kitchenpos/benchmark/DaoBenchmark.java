@@ -0,0 +1,80 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class DaoBenchmark {
+    private static final List<String> OPEN_ORDER_STATUSES = Arrays.asList(
+            OrderStatus.COOKING.name(), OrderStatus.MEAL.name());
+
+    @Benchmark
+    public Order orderDaoSave(final KitchenposState state) {
+        final Order order = new Order();
+        order.setOrderTableId(state.randomOrderTableId());
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderedTime(LocalDateTime.now());
+        return state.getBean(OrderDao.class).save(order);
+    }
+
+    @Benchmark
+    public Optional<Order> orderDaoFindById(final KitchenposState state) {
+        return state.getBean(OrderDao.class).findById(state.randomOrderId());
+    }
+
+    @Benchmark
+    public List<Order> orderDaoFindAll(final KitchenposState state) {
+        return state.getBean(OrderDao.class).findAll();
+    }
+
+    @Benchmark
+    public boolean orderDaoExistsByOrderTableIdAndOrderStatusIn(final KitchenposState state) {
+        return state.getBean(OrderDao.class)
+                .existsByOrderTableIdAndOrderStatusIn(state.randomOrderTableId(), OPEN_ORDER_STATUSES);
+    }
+
+    @Benchmark
+    public List<OrderLineItem> orderLineItemDaoFindAllByOrderId(final KitchenposState state) {
+        return state.getBean(OrderLineItemDao.class).findAllByOrderId(state.randomOrderId());
+    }
+
+    @Benchmark
+    public Optional<OrderTable> orderTableDaoFindById(final KitchenposState state) {
+        return state.getBean(OrderTableDao.class).findById(state.randomOrderTableId());
+    }
+
+    @Benchmark
+    public List<OrderTable> orderTableDaoFindAllByIdIn(final KitchenposState state) {
+        return state.getBean(OrderTableDao.class)
+                .findAllByIdIn(Arrays.asList(state.randomOrderTableId(), state.randomOrderTableId()));
+    }
+
+    @Benchmark
+    public long menuDaoCountByIdIn(final KitchenposState state) {
+        return state.getBean(MenuDao.class).countByIdIn(Arrays.asList(state.randomMenuId(), state.randomMenuId()));
+    }
+
+    @Benchmark
+    public List<Menu> menuDaoFindAll(final KitchenposState state) {
+        return state.getBean(MenuDao.class).findAll();
+    }
+
+    @Benchmark
+    public List<MenuProduct> menuProductDaoFindAllByMenuId(final KitchenposState state) {
+        return state.getBean(MenuProductDao.class).findAllByMenuId(state.randomMenuId());
+    }
+}
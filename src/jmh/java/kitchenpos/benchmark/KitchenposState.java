@@ -0,0 +1,73 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.Application;
+import kitchenpos.datagen.DataGenerator;
+import kitchenpos.datagen.DatasetSpec;
+import kitchenpos.datagen.GeneratedDataset;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@State(Scope.Benchmark)
+public class KitchenposState {
+    @Param({"100", "1000", "10000"})
+    public int orderCount;
+
+    private ConfigurableApplicationContext context;
+    private GeneratedDataset dataset;
+    private List<Long> seatedTableIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        final DataSource dataSource = getBean(DataSource.class);
+        dataset = new DataGenerator(dataSource).generate(DatasetSpec.ofOrders(orderCount));
+        seatedTableIds = new JdbcTemplate(dataSource).queryForList(
+                "SELECT id FROM order_table WHERE empty = FALSE AND id >= ?", Long.class, dataset.getFirstTableId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public long randomOrderTableId() {
+        return dataset.getFirstTableId() + ThreadLocalRandom.current().nextInt(dataset.getTableCount());
+    }
+
+    public long randomSeatedOrderTableId() {
+        return seatedTableIds.get(ThreadLocalRandom.current().nextInt(seatedTableIds.size()));
+    }
+
+    public long randomOrderId() {
+        return dataset.getFirstOrderId() + ThreadLocalRandom.current().nextLong(dataset.getOrderCount());
+    }
+
+    public long randomMenuId() {
+        return dataset.getFirstMenuId() + ThreadLocalRandom.current().nextInt(dataset.getMenuCount());
+    }
+
+    public <T> T getBean(final Class<T> type) {
+        return context.getBean(type);
+    }
+}
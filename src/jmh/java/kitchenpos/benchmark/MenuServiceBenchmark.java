@@ -0,0 +1,31 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.MenuService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+public class MenuServiceBenchmark {
+    @Benchmark
+    public Menu create(final KitchenposState state) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(1L);
+        menuProduct.setQuantity(2);
+
+        final Menu menu = new Menu();
+        menu.setName("후라이드+후라이드");
+        menu.setPrice(BigDecimal.valueOf(19_000));
+        menu.setMenuGroupId(1L);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return state.getBean(MenuService.class).create(menu);
+    }
+
+    @Benchmark
+    public List<Menu> list(final KitchenposState state) {
+        return state.getBean(MenuService.class).list();
+    }
+}
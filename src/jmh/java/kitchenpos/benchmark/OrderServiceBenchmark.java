@@ -0,0 +1,52 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+@State(Scope.Thread)
+public class OrderServiceBenchmark {
+    private OrderService orderService;
+
+    @Setup(Level.Trial)
+    public void setUp(final KitchenposState state) {
+        orderService = state.getBean(OrderService.class);
+    }
+
+    @Benchmark
+    public Order create(final KitchenposState state) {
+        final long menuId = state.randomMenuId();
+        long otherMenuId = state.randomMenuId();
+        while (otherMenuId == menuId) {
+            otherMenuId = state.randomMenuId();
+        }
+
+        final Order order = new Order();
+        order.setOrderTableId(state.randomSeatedOrderTableId());
+        order.setOrderLineItems(Arrays.asList(
+                orderLineItem(menuId),
+                orderLineItem(otherMenuId)
+        ));
+        return orderService.create(order);
+    }
+
+    @Benchmark
+    public List<Order> list() {
+        return orderService.list();
+    }
+
+    private OrderLineItem orderLineItem(final long menuId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setQuantity(1);
+        return orderLineItem;
+    }
+}
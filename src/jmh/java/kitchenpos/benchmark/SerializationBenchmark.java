@@ -0,0 +1,30 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.io.IOException;
+import java.util.List;
+
+public class SerializationBenchmark {
+    @Benchmark
+    public byte[] encodeOrders(final SerializationState state) throws IOException {
+        return state.getObjectMapper().writeValueAsBytes(state.getOrders());
+    }
+
+    @Benchmark
+    public List<Order> decodeOrders(final SerializationState state) throws IOException {
+        return state.getObjectMapper().readValue(state.getEncodedOrders(), state.getOrderListType());
+    }
+
+    @Benchmark
+    public byte[] encodeMenus(final SerializationState state) throws IOException {
+        return state.getObjectMapper().writeValueAsBytes(state.getMenus());
+    }
+
+    @Benchmark
+    public List<Menu> decodeMenus(final SerializationState state) throws IOException {
+        return state.getObjectMapper().readValue(state.getEncodedMenus(), state.getMenuListType());
+    }
+}
@@ -0,0 +1,151 @@
+package kitchenpos.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Order and menu lists shaped like the API responses, for one wire format.
+ */
+@State(Scope.Benchmark)
+public class SerializationState {
+    private static final int LINE_ITEMS_PER_ORDER = 3;
+    private static final int PRODUCTS_PER_MENU = 2;
+    private static final long SEED = 7L;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"10", "1000"})
+    public int elementCount;
+
+    private ObjectMapper objectMapper;
+    private List<Order> orders;
+    private List<Menu> menus;
+    private byte[] encodedOrders;
+    private byte[] encodedMenus;
+    private JavaType orderListType;
+    private JavaType menuListType;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = builder(format)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        final Random random = new Random(SEED);
+        orders = orders(random);
+        menus = menus(random);
+        encodedOrders = objectMapper.writeValueAsBytes(orders);
+        encodedMenus = objectMapper.writeValueAsBytes(menus);
+        orderListType = objectMapper.getTypeFactory().constructCollectionType(List.class, Order.class);
+        menuListType = objectMapper.getTypeFactory().constructCollectionType(List.class, Menu.class);
+        System.out.printf("%s payload for %d elements: orders %d bytes, menus %d bytes%n",
+                format, elementCount, encodedOrders.length, encodedMenus.length);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public List<Menu> getMenus() {
+        return menus;
+    }
+
+    public byte[] getEncodedOrders() {
+        return encodedOrders;
+    }
+
+    public byte[] getEncodedMenus() {
+        return encodedMenus;
+    }
+
+    public JavaType getOrderListType() {
+        return orderListType;
+    }
+
+    public JavaType getMenuListType() {
+        return menuListType;
+    }
+
+    private static Jackson2ObjectMapperBuilder builder(final String format) {
+        switch (format) {
+            case "cbor":
+                return Jackson2ObjectMapperBuilder.cbor();
+            case "smile":
+                return Jackson2ObjectMapperBuilder.smile();
+            default:
+                return Jackson2ObjectMapperBuilder.json();
+        }
+    }
+
+    private List<Order> orders(final Random random) {
+        final List<OrderStatus> statuses = Arrays.asList(OrderStatus.values());
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Order> orders = new ArrayList<>(elementCount);
+        for (long id = 1; id <= elementCount; id++) {
+            final Order order = new Order();
+            order.setId(id);
+            order.setOrderTableId(1L + random.nextInt(100));
+            order.setOrderStatus(statuses.get(random.nextInt(statuses.size())).name());
+            order.setOrderedTime(now.minusSeconds(random.nextInt(86_400)));
+            final List<OrderLineItem> orderLineItems = new ArrayList<>(LINE_ITEMS_PER_ORDER);
+            for (int i = 0; i < LINE_ITEMS_PER_ORDER; i++) {
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setSeq((id - 1) * LINE_ITEMS_PER_ORDER + i + 1);
+                orderLineItem.setOrderId(id);
+                orderLineItem.setMenuId(1L + random.nextInt(50));
+                orderLineItem.setQuantity(1 + random.nextInt(3));
+                orderLineItems.add(orderLineItem);
+            }
+            order.setOrderLineItems(orderLineItems);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private List<Menu> menus(final Random random) {
+        final List<Menu> menus = new ArrayList<>(elementCount);
+        for (long id = 1; id <= elementCount; id++) {
+            final Menu menu = new Menu();
+            menu.setId(id);
+            menu.setName("메뉴" + id);
+            menu.setPrice(BigDecimal.valueOf(10_000 + random.nextInt(200) * 100L, 0).setScale(2));
+            menu.setMenuGroupId(1L + random.nextInt(4));
+            final List<MenuProduct> menuProducts = new ArrayList<>(PRODUCTS_PER_MENU);
+            for (int i = 0; i < PRODUCTS_PER_MENU; i++) {
+                final MenuProduct menuProduct = new MenuProduct();
+                menuProduct.setSeq((id - 1) * PRODUCTS_PER_MENU + i + 1);
+                menuProduct.setMenuId(id);
+                menuProduct.setProductId(1L + random.nextInt(100));
+                menuProduct.setQuantity(1 + random.nextInt(2));
+                menuProducts.add(menuProduct);
+            }
+            menu.setMenuProducts(menuProducts);
+            menus.add(menu);
+        }
+        return menus;
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.TableGroupService;
+import kitchenpos.application.TableService;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+@State(Scope.Thread)
+public class TableGroupServiceBenchmark {
+    private TableGroup tableGroup;
+
+    @Setup(Level.Invocation)
+    public void setUp(final KitchenposState state) {
+        final TableService tableService = state.getBean(TableService.class);
+        tableGroup = new TableGroup();
+        tableGroup.setOrderTables(Arrays.asList(
+                tableService.create(emptyTable()),
+                tableService.create(emptyTable())
+        ));
+    }
+
+    @Benchmark
+    public TableGroup create(final KitchenposState state) {
+        return state.getBean(TableGroupService.class).create(tableGroup);
+    }
+
+    private OrderTable emptyTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(true);
+        return orderTable;
+    }
+}
@@ -0,0 +1,413 @@
+package kitchenpos.datagen;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded bulk loader; the same {@link DatasetSpec} always produces the same rows.
+ */
+public class DataGenerator {
+    private static final int BATCH_SIZE = 5_000;
+    private static final int COMMIT_SIZE = 50_000;
+    private static final String COOKING = "COOKING";
+    private static final String MEAL = "MEAL";
+    private static final String COMPLETION = "COMPLETION";
+    private static final int[] HOUR_WEIGHTS = {
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 3, 8, 6, 2, 1, 1, 3, 9, 10, 7, 4, 2, 1
+    };
+
+    private static final String[] REBUILD_AGGREGATES_SQL = {
+            "DELETE FROM menu_sales",
+            "INSERT INTO menu_sales (menu_id, quantity, revenue)" +
+                    " SELECT oli.menu_id, SUM(oli.quantity), SUM(oli.quantity * m.price) FROM order_line_item oli" +
+                    " JOIN orders o ON o.id = oli.order_id JOIN menu m ON m.id = oli.menu_id" +
+                    " WHERE o.order_status = 'COMPLETION' GROUP BY oli.menu_id",
+            "DELETE FROM menu_group_sales",
+            "INSERT INTO menu_group_sales (menu_group_id, quantity, revenue)" +
+                    " SELECT m.menu_group_id, SUM(oli.quantity), SUM(oli.quantity * m.price) FROM order_line_item oli" +
+                    " JOIN orders o ON o.id = oli.order_id JOIN menu m ON m.id = oli.menu_id" +
+                    " WHERE o.order_status = 'COMPLETION' GROUP BY m.menu_group_id",
+            "DELETE FROM hourly_sales",
+            "INSERT INTO hourly_sales (hour_bucket, order_count, quantity, revenue)" +
+                    " SELECT PARSEDATETIME(FORMATDATETIME(o.ordered_time, 'yyyy-MM-dd HH'), 'yyyy-MM-dd HH')," +
+                    " COUNT(DISTINCT o.id), SUM(oli.quantity), SUM(oli.quantity * m.price) FROM order_line_item oli" +
+                    " JOIN orders o ON o.id = oli.order_id JOIN menu m ON m.id = oli.menu_id" +
+                    " WHERE o.order_status = 'COMPLETION'" +
+                    " GROUP BY PARSEDATETIME(FORMATDATETIME(o.ordered_time, 'yyyy-MM-dd HH'), 'yyyy-MM-dd HH')",
+            "DELETE FROM running_bill",
+            "INSERT INTO running_bill (order_table_id, amount, order_count, open_order_count)" +
+                    " SELECT o.order_table_id, SUM(oli.quantity * m.price), COUNT(DISTINCT o.id), COUNT(DISTINCT o.id)" +
+                    " FROM orders o JOIN order_table ot ON ot.id = o.order_table_id" +
+                    " JOIN order_line_item oli ON oli.order_id = o.id JOIN menu m ON m.id = oli.menu_id" +
+                    " WHERE ot.empty = FALSE AND o.order_status <> 'COMPLETION' GROUP BY o.order_table_id"
+    };
+
+    private final DataSource dataSource;
+
+    public DataGenerator(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public static void main(final String[] args) {
+        final Map<String, String> options = parse(args);
+        final String url = options.getOrDefault("jdbc-url", "jdbc:h2:file:./build/kitchenpos;AUTO_SERVER=TRUE");
+        final String username = options.getOrDefault("username", "sa");
+        final String password = options.getOrDefault("password", "");
+
+        final DatasetSpec spec = DatasetSpec.ofOrders(Long.parseLong(options.getOrDefault("orders", "1000000")));
+        if (options.containsKey("seed")) {
+            spec.setSeed(Long.parseLong(options.get("seed")));
+        }
+        if (options.containsKey("menus")) {
+            spec.setMenuCount(Integer.parseInt(options.get("menus")));
+        }
+        if (options.containsKey("tables")) {
+            spec.setTableCount(Integer.parseInt(options.get("tables")));
+        }
+        if (options.containsKey("table-groups")) {
+            spec.setTableGroupCount(Integer.parseInt(options.get("table-groups")));
+        }
+
+        if (Boolean.parseBoolean(options.getOrDefault("migrate", "true"))) {
+            Flyway.configure()
+                    .dataSource(url, username, password)
+                    .load()
+                    .migrate();
+        }
+
+        final long startedAt = System.nanoTime();
+        final GeneratedDataset dataset = new DataGenerator(new DriverManagerDataSource(url, username, password))
+                .generate(spec);
+        System.out.printf("Generated %d orders over %d tables and %d menus in %s%n",
+                dataset.getOrderCount(), dataset.getTableCount(), dataset.getMenuCount(),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    public GeneratedDataset generate(final DatasetSpec spec) {
+        try (final Connection connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                execute(connection, "SET REFERENTIAL_INTEGRITY FALSE");
+                final GeneratedDataset dataset = generate(connection, spec, new SplittableRandom(spec.getSeed()));
+                for (final String sql : REBUILD_AGGREGATES_SQL) {
+                    execute(connection, sql);
+                }
+                connection.commit();
+                return dataset;
+            } finally {
+                execute(connection, "SET REFERENTIAL_INTEGRITY TRUE");
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private GeneratedDataset generate(
+            final Connection connection,
+            final DatasetSpec spec,
+            final SplittableRandom random
+    ) throws SQLException {
+        final long firstMenuGroupId = nextId(connection, "menu_group", "id");
+        final long firstProductId = nextId(connection, "product", "id");
+        final long firstMenuId = nextId(connection, "menu", "id");
+        final long firstTableGroupId = nextId(connection, "table_group", "id");
+        final long firstTableId = nextId(connection, "order_table", "id");
+        final long firstOrderId = nextId(connection, "orders", "id");
+
+        insertMenuGroups(connection, spec, firstMenuGroupId);
+        final long[] productPrices = insertProducts(connection, spec, random, firstProductId);
+        final BigDecimal[] menuPrices = insertMenus(
+                connection, spec, random, firstMenuId, firstMenuGroupId, firstProductId, productPrices);
+        final boolean[] occupied = insertOrders(connection, spec, random, firstOrderId, firstTableId, firstMenuId);
+        insertTables(connection, spec, random, firstTableId, firstTableGroupId, occupied);
+
+        restart(connection, "menu_group", "id", firstMenuGroupId + spec.getMenuGroupCount());
+        restart(connection, "product", "id", firstProductId + spec.getProductCount());
+        restart(connection, "menu", "id", firstMenuId + menuPrices.length);
+        restart(connection, "table_group", "id", firstTableGroupId + spec.getTableGroupCount());
+        restart(connection, "order_table", "id", firstTableId + spec.getTableCount());
+        restart(connection, "orders", "id", firstOrderId + spec.getOrderCount());
+
+        return new GeneratedDataset(
+                firstMenuId, spec.getMenuCount(), firstTableId, spec.getTableCount(), firstOrderId, spec.getOrderCount());
+    }
+
+    private void insertMenuGroups(final Connection connection, final DatasetSpec spec, final long firstId)
+            throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO menu_group (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < spec.getMenuGroupCount(); i++) {
+                statement.setLong(1, firstId + i);
+                statement.setString(2, "메뉴그룹-" + (firstId + i));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private long[] insertProducts(
+            final Connection connection,
+            final DatasetSpec spec,
+            final SplittableRandom random,
+            final long firstId
+    ) throws SQLException {
+        final long[] prices = new long[spec.getProductCount()];
+        try (final PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO product (id, name, price) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < prices.length; i++) {
+                prices[i] = 8_000 + 500L * random.nextInt(35);
+                statement.setLong(1, firstId + i);
+                statement.setString(2, "상품-" + (firstId + i));
+                statement.setBigDecimal(3, BigDecimal.valueOf(prices[i]));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return prices;
+    }
+
+    private BigDecimal[] insertMenus(
+            final Connection connection,
+            final DatasetSpec spec,
+            final SplittableRandom random,
+            final long firstId,
+            final long firstMenuGroupId,
+            final long firstProductId,
+            final long[] productPrices
+    ) throws SQLException {
+        final BigDecimal[] prices = new BigDecimal[spec.getMenuCount()];
+        try (final PreparedStatement menuStatement = connection.prepareStatement(
+                "INSERT INTO menu (id, name, price, menu_group_id) VALUES (?, ?, ?, ?)");
+             final PreparedStatement menuProductStatement = connection.prepareStatement(
+                     "INSERT INTO menu_product (menu_id, product_id, quantity) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < prices.length; i++) {
+                final long menuId = firstId + i;
+                long sum = 0;
+                final int menuProductCount = 1 + random.nextInt(spec.getMaxMenuProductsPerMenu());
+                for (int j = 0; j < menuProductCount; j++) {
+                    final int product = random.nextInt(productPrices.length);
+                    final int quantity = 1 + random.nextInt(2);
+                    sum += productPrices[product] * quantity;
+                    menuProductStatement.setLong(1, menuId);
+                    menuProductStatement.setLong(2, firstProductId + product);
+                    menuProductStatement.setLong(3, quantity);
+                    menuProductStatement.addBatch();
+                }
+                final long discount = sum / 100 * random.nextInt(11) / 100 * 100;
+                prices[i] = BigDecimal.valueOf(sum - discount);
+
+                menuStatement.setLong(1, menuId);
+                menuStatement.setString(2, "메뉴-" + menuId);
+                menuStatement.setBigDecimal(3, prices[i]);
+                menuStatement.setLong(4, firstMenuGroupId + random.nextInt(spec.getMenuGroupCount()));
+                menuStatement.addBatch();
+            }
+            menuStatement.executeBatch();
+            menuProductStatement.executeBatch();
+        }
+        return prices;
+    }
+
+    private boolean[] insertOrders(
+            final Connection connection,
+            final DatasetSpec spec,
+            final SplittableRandom random,
+            final long firstId,
+            final long firstTableId,
+            final long firstMenuId
+    ) throws SQLException {
+        final boolean[] occupied = new boolean[spec.getTableCount()];
+        final ZipfDistribution menuPopularity = new ZipfDistribution(
+                spec.getMenuCount(), spec.getMenuPopularityExponent());
+        final LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        final LocalDateTime now = LocalDateTime.now();
+
+        try (final PreparedStatement orderStatement = connection.prepareStatement(
+                "INSERT INTO orders (id, order_table_id, order_status, ordered_time) VALUES (?, ?, ?, ?)");
+             final PreparedStatement lineItemStatement = connection.prepareStatement(
+                     "INSERT INTO order_line_item (order_id, menu_id, quantity) VALUES (?, ?, ?)")) {
+            final int[] menus = new int[spec.getMaxLineItemsPerOrder()];
+            for (long i = 0; i < spec.getOrderCount(); i++) {
+                final long orderId = firstId + i;
+                final int table = random.nextInt(spec.getTableCount());
+                final String orderStatus = orderStatus(spec, random);
+                final LocalDateTime orderedTime;
+                if (COMPLETION.equals(orderStatus)) {
+                    orderedTime = today.minusDays(1 + random.nextInt(spec.getOrderedDays()))
+                            .plusHours(hour(random))
+                            .plusSeconds(random.nextInt(3_600));
+                } else {
+                    occupied[table] = true;
+                    orderedTime = now.minusSeconds(random.nextInt(3_600));
+                }
+
+                orderStatement.setLong(1, orderId);
+                orderStatement.setLong(2, firstTableId + table);
+                orderStatement.setString(3, orderStatus);
+                orderStatement.setTimestamp(4, Timestamp.valueOf(orderedTime));
+                orderStatement.addBatch();
+
+                final int lineItemCount = Math.min(1 + random.nextInt(spec.getMaxLineItemsPerOrder()), spec.getMenuCount());
+                for (int j = 0; j < lineItemCount; j++) {
+                    menus[j] = distinctMenu(menuPopularity, random, menus, j);
+                    lineItemStatement.setLong(1, orderId);
+                    lineItemStatement.setLong(2, firstMenuId + menus[j]);
+                    lineItemStatement.setLong(3, random.nextInt(4) == 0 ? 2 : 1);
+                    lineItemStatement.addBatch();
+                }
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    orderStatement.executeBatch();
+                    lineItemStatement.executeBatch();
+                }
+                if ((i + 1) % COMMIT_SIZE == 0) {
+                    connection.commit();
+                }
+            }
+            orderStatement.executeBatch();
+            lineItemStatement.executeBatch();
+        }
+        return occupied;
+    }
+
+    private int distinctMenu(
+            final ZipfDistribution menuPopularity,
+            final SplittableRandom random,
+            final int[] drawn,
+            final int count
+    ) {
+        int menu;
+        do {
+            menu = menuPopularity.sample(random);
+        } while (contains(drawn, count, menu));
+        return menu;
+    }
+
+    private boolean contains(final int[] values, final int count, final int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void insertTables(
+            final Connection connection,
+            final DatasetSpec spec,
+            final SplittableRandom random,
+            final long firstId,
+            final long firstTableGroupId,
+            final boolean[] occupied
+    ) throws SQLException {
+        try (final PreparedStatement groupStatement = connection.prepareStatement(
+                "INSERT INTO table_group (id, created_date) VALUES (?, ?)")) {
+            for (int i = 0; i < spec.getTableGroupCount(); i++) {
+                groupStatement.setLong(1, firstTableGroupId + i);
+                groupStatement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                groupStatement.addBatch();
+            }
+            groupStatement.executeBatch();
+        }
+
+        try (final PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO order_table (id, table_group_id, number_of_guests, empty) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < spec.getTableCount(); i++) {
+                final boolean grouped = i < spec.getTableGroupCount() * 2;
+                final boolean seated = grouped || occupied[i] || random.nextDouble() < spec.getSeatedRatio();
+                statement.setLong(1, firstId + i);
+                if (grouped) {
+                    statement.setLong(2, firstTableGroupId + i / 2);
+                } else {
+                    statement.setNull(2, Types.BIGINT);
+                }
+                statement.setInt(3, seated ? 1 + random.nextInt(6) : 0);
+                statement.setBoolean(4, !seated);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private String orderStatus(final DatasetSpec spec, final SplittableRandom random) {
+        final double value = random.nextDouble();
+        if (value < spec.getCookingRatio()) {
+            return COOKING;
+        }
+        if (value < spec.getCookingRatio() + spec.getMealRatio()) {
+            return MEAL;
+        }
+        return COMPLETION;
+    }
+
+    private int hour(final SplittableRandom random) {
+        int total = 0;
+        for (final int weight : HOUR_WEIGHTS) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int hour = 0; hour < HOUR_WEIGHTS.length; hour++) {
+            value -= HOUR_WEIGHTS[hour];
+            if (value < 0) {
+                return hour;
+            }
+        }
+        return HOUR_WEIGHTS.length - 1;
+    }
+
+    private long nextId(final Connection connection, final String tableName, final String keyColumnName)
+            throws SQLException {
+        try (final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery(
+                     "SELECT COALESCE(MAX(" + keyColumnName + "), 0) + 1 FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void restart(final Connection connection, final String tableName, final String keyColumnName,
+                         final long nextId) throws SQLException {
+        execute(connection, "ALTER TABLE " + tableName + " ALTER COLUMN " + keyColumnName + " RESTART WITH " + nextId);
+    }
+
+    private void execute(final Connection connection, final String sql) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Map<String, String> parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            final int separator = option.indexOf('=');
+            if (separator < 0) {
+                options.put(option, "true");
+            } else {
+                options.put(option.substring(0, separator), option.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
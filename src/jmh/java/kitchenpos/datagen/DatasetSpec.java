@@ -0,0 +1,141 @@
+package kitchenpos.datagen;
+
+public class DatasetSpec {
+    private long seed = 42;
+    private int menuGroupCount;
+    private int productCount;
+    private int menuCount;
+    private int maxMenuProductsPerMenu = 3;
+    private int tableCount;
+    private int tableGroupCount;
+    private long orderCount;
+    private int maxLineItemsPerOrder = 4;
+    private double menuPopularityExponent = 1.1;
+    private double cookingRatio = 0.02;
+    private double mealRatio = 0.03;
+    private double seatedRatio = 0.5;
+    private int orderedDays = 90;
+
+    public static DatasetSpec ofOrders(final long orderCount) {
+        final DatasetSpec spec = new DatasetSpec();
+        spec.setOrderCount(orderCount);
+        spec.setMenuGroupCount(8);
+        spec.setProductCount(40);
+        spec.setMenuCount(100);
+        spec.setTableCount((int) Math.max(10, Math.min(10_000, orderCount / 100)));
+        spec.setTableGroupCount(spec.getTableCount() / 20);
+        return spec;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    public int getMenuGroupCount() {
+        return menuGroupCount;
+    }
+
+    public void setMenuGroupCount(final int menuGroupCount) {
+        this.menuGroupCount = menuGroupCount;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(final int productCount) {
+        this.productCount = productCount;
+    }
+
+    public int getMenuCount() {
+        return menuCount;
+    }
+
+    public void setMenuCount(final int menuCount) {
+        this.menuCount = menuCount;
+    }
+
+    public int getMaxMenuProductsPerMenu() {
+        return maxMenuProductsPerMenu;
+    }
+
+    public void setMaxMenuProductsPerMenu(final int maxMenuProductsPerMenu) {
+        this.maxMenuProductsPerMenu = maxMenuProductsPerMenu;
+    }
+
+    public int getTableCount() {
+        return tableCount;
+    }
+
+    public void setTableCount(final int tableCount) {
+        this.tableCount = tableCount;
+    }
+
+    public int getTableGroupCount() {
+        return tableGroupCount;
+    }
+
+    public void setTableGroupCount(final int tableGroupCount) {
+        this.tableGroupCount = tableGroupCount;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public int getMaxLineItemsPerOrder() {
+        return maxLineItemsPerOrder;
+    }
+
+    public void setMaxLineItemsPerOrder(final int maxLineItemsPerOrder) {
+        this.maxLineItemsPerOrder = maxLineItemsPerOrder;
+    }
+
+    public double getMenuPopularityExponent() {
+        return menuPopularityExponent;
+    }
+
+    public void setMenuPopularityExponent(final double menuPopularityExponent) {
+        this.menuPopularityExponent = menuPopularityExponent;
+    }
+
+    public double getCookingRatio() {
+        return cookingRatio;
+    }
+
+    public void setCookingRatio(final double cookingRatio) {
+        this.cookingRatio = cookingRatio;
+    }
+
+    public double getMealRatio() {
+        return mealRatio;
+    }
+
+    public void setMealRatio(final double mealRatio) {
+        this.mealRatio = mealRatio;
+    }
+
+    public double getSeatedRatio() {
+        return seatedRatio;
+    }
+
+    public void setSeatedRatio(final double seatedRatio) {
+        this.seatedRatio = seatedRatio;
+    }
+
+    public int getOrderedDays() {
+        return orderedDays;
+    }
+
+    public void setOrderedDays(final int orderedDays) {
+        this.orderedDays = orderedDays;
+    }
+}
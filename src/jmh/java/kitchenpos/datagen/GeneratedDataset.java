@@ -0,0 +1,50 @@
+package kitchenpos.datagen;
+
+public class GeneratedDataset {
+    private final long firstMenuId;
+    private final int menuCount;
+    private final long firstTableId;
+    private final int tableCount;
+    private final long firstOrderId;
+    private final long orderCount;
+
+    GeneratedDataset(
+            final long firstMenuId,
+            final int menuCount,
+            final long firstTableId,
+            final int tableCount,
+            final long firstOrderId,
+            final long orderCount
+    ) {
+        this.firstMenuId = firstMenuId;
+        this.menuCount = menuCount;
+        this.firstTableId = firstTableId;
+        this.tableCount = tableCount;
+        this.firstOrderId = firstOrderId;
+        this.orderCount = orderCount;
+    }
+
+    public long getFirstMenuId() {
+        return firstMenuId;
+    }
+
+    public int getMenuCount() {
+        return menuCount;
+    }
+
+    public long getFirstTableId() {
+        return firstTableId;
+    }
+
+    public int getTableCount() {
+        return tableCount;
+    }
+
+    public long getFirstOrderId() {
+        return firstOrderId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+}
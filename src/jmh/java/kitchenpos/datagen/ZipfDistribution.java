@@ -0,0 +1,26 @@
+package kitchenpos.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+class ZipfDistribution {
+    private final double[] cumulativeProbabilities;
+
+    ZipfDistribution(final int size, final double exponent) {
+        cumulativeProbabilities = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulativeProbabilities[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    int sample(final SplittableRandom random) {
+        final int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        final int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1);
+    }
+}
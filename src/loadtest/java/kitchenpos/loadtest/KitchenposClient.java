@@ -0,0 +1,90 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Objects;
+
+class KitchenposClient {
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder latencyRecorder;
+
+    KitchenposClient(final String baseUrl, final LatencyRecorder latencyRecorder) {
+        this.baseUrl = baseUrl;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    JsonNode get(final String endpoint, final String path, final long scheduledNanos) {
+        return exchange(endpoint, "GET", path, null, scheduledNanos);
+    }
+
+    JsonNode post(final String endpoint, final String path, final Object body, final long scheduledNanos) {
+        return exchange(endpoint, "POST", path, body, scheduledNanos);
+    }
+
+    JsonNode put(final String endpoint, final String path, final Object body, final long scheduledNanos) {
+        return exchange(endpoint, "PUT", path, body, scheduledNanos);
+    }
+
+    JsonNode delete(final String endpoint, final String path, final long scheduledNanos) {
+        return exchange(endpoint, "DELETE", path, null, scheduledNanos);
+    }
+
+    private JsonNode exchange(
+            final String endpoint,
+            final String method,
+            final String path,
+            final Object body,
+            final long scheduledNanos
+    ) {
+        boolean success = false;
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            connection.setRequestMethod(method);
+            connection.setRequestProperty("Accept", "application/json");
+            if (Objects.nonNull(body)) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json");
+                try (final OutputStream outputStream = connection.getOutputStream()) {
+                    objectMapper.writeValue(outputStream, body);
+                }
+            }
+
+            final int status = connection.getResponseCode();
+            success = status < 400;
+            final byte[] responseBody = read(success ? connection.getInputStream() : connection.getErrorStream());
+            if (!success) {
+                throw new IllegalStateException(method + " " + path + " returned " + status);
+            }
+            return responseBody.length == 0 ? NullNode.getInstance() : objectMapper.readTree(responseBody);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            latencyRecorder.record(method + " " + endpoint, System.nanoTime() - scheduledNanos, success);
+        }
+    }
+
+    private byte[] read(final InputStream inputStream) throws IOException {
+        if (Objects.isNull(inputStream)) {
+            return new byte[0];
+        }
+        try (final InputStream in = inputStream) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8_192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package kitchenpos.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyRecorder {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> totals = new TreeMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        for (final Recorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+        errors.clear();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        for (final Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            final Histogram histogram = entry.getValue().getIntervalHistogram();
+            totals.computeIfAbsent(entry.getKey(), key -> new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                    .add(histogram);
+        }
+    }
+
+    void record(final String endpoint, final long latencyNanos, final boolean success) {
+        if (!recording) {
+            return;
+        }
+        recorders.computeIfAbsent(endpoint, key -> new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                .recordValue(Math.min(Math.max(latencyNanos, 1), HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    void report(final PrintStream out, final double elapsedSeconds) {
+        out.printf("%-40s %9s %7s %9s", "endpoint", "count", "errors", "req/s");
+        for (final double percentile : PERCENTILES) {
+            out.printf(" %9s", "p" + percentile);
+        }
+        out.printf(" %9s %9s%n", "max", "mean");
+
+        for (final Map.Entry<String, Histogram> entry : totals.entrySet()) {
+            final Histogram histogram = entry.getValue();
+            final LongAdder errorCount = errors.get(entry.getKey());
+            out.printf("%-40s %9d %7d %9.1f", entry.getKey(), histogram.getTotalCount(),
+                    errorCount == null ? 0 : errorCount.sum(), histogram.getTotalCount() / elapsedSeconds);
+            for (final double percentile : PERCENTILES) {
+                out.printf(" %9s", millis(histogram.getValueAtPercentile(percentile)));
+            }
+            out.printf(" %9s %9s%n", millis(histogram.getMaxValue()), millis((long) histogram.getMean()));
+        }
+        out.println("latencies in milliseconds, measured from each request's scheduled start");
+    }
+
+    void writeDistributions(final PrintStream out) {
+        for (final Map.Entry<String, Histogram> entry : totals.entrySet()) {
+            out.println("# " + entry.getKey());
+            entry.getValue().outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private String millis(final long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,146 @@
+package kitchenpos.loadtest;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator measuring latency from each scenario's scheduled start.
+ */
+public class LoadGenerator {
+    private static final String DEFAULT_SCENARIOS =
+            "seat-and-order=6,list-menus=3,list-tables=3,group-and-ungroup=1,list-orders=1";
+
+    private final KitchenposClient client;
+    private final LatencyRecorder latencyRecorder;
+    private final Map<Scenario, Integer> weights;
+    private final double rate;
+    private final ExecutorService workers;
+    private final SplittableRandom random;
+    private final AtomicLong failures = new AtomicLong();
+
+    LoadGenerator(
+            final String baseUrl,
+            final Map<Scenario, Integer> weights,
+            final double rate,
+            final int threads,
+            final long seed
+    ) {
+        this.latencyRecorder = new LatencyRecorder();
+        this.client = new KitchenposClient(baseUrl, latencyRecorder);
+        this.weights = weights;
+        this.rate = rate;
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public static void main(final String[] args) throws InterruptedException, FileNotFoundException {
+        final Map<String, String> options = parse(args);
+        final LoadGenerator loadGenerator = new LoadGenerator(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                weights(options.getOrDefault("scenarios", DEFAULT_SCENARIOS)),
+                Double.parseDouble(options.getOrDefault("rate", "50")),
+                Integer.parseInt(options.getOrDefault("threads", "64")),
+                Long.parseLong(options.getOrDefault("seed", "42"))
+        );
+        final Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        final Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        final File reportDirectory = new File(options.getOrDefault("report-dir", "build/reports/loadtest"));
+
+        loadGenerator.run(warmup, duration, reportDirectory);
+    }
+
+    void run(final Duration warmup, final Duration duration, final File reportDirectory)
+            throws InterruptedException, FileNotFoundException {
+        dispatch(warmup);
+        latencyRecorder.start();
+        final long startedAt = System.nanoTime();
+        final long scheduled = dispatch(duration);
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        final double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        latencyRecorder.stop();
+
+        reportDirectory.mkdirs();
+        try (final PrintStream summary = new PrintStream(new File(reportDirectory, "summary.txt"));
+             final PrintStream distributions = new PrintStream(new File(reportDirectory, "latency.hgrm"))) {
+            for (final PrintStream out : new PrintStream[]{System.out, summary}) {
+                out.printf("target %.1f scenarios/s, scheduled %d, failed %d, elapsed %.1fs%n",
+                        rate, scheduled, failures.get(), elapsedSeconds);
+                latencyRecorder.report(out, elapsedSeconds);
+            }
+            latencyRecorder.writeDistributions(distributions);
+        }
+    }
+
+    private long dispatch(final Duration duration) {
+        final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        final long startNanos = System.nanoTime();
+        final long endNanos = startNanos + duration.toNanos();
+        long count = 0;
+        for (long scheduledNanos = startNanos; scheduledNanos < endNanos; scheduledNanos += intervalNanos) {
+            final long waitNanos = scheduledNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            final Scenario scenario = pick();
+            final long scenarioScheduledNanos = scheduledNanos;
+            workers.execute(() -> {
+                try {
+                    scenario.run(client, scenarioScheduledNanos);
+                } catch (final RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+            });
+            count++;
+        }
+        return count;
+    }
+
+    private Scenario pick() {
+        final int total = weights.values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        int value = random.nextInt(total);
+        for (final Map.Entry<Scenario, Integer> entry : weights.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static Map<Scenario, Integer> weights(final String value) {
+        final Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (final String entry : value.split(",")) {
+            final String[] keyAndWeight = entry.trim().split("=");
+            weights.put(Scenario.of(keyAndWeight[0]), Integer.parseInt(keyAndWeight[1]));
+        }
+        return weights;
+    }
+
+    private static Map<String, String> parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            final int separator = option.indexOf('=');
+            if (separator < 0) {
+                options.put(option, "true");
+            } else {
+                options.put(option.substring(0, separator), option.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
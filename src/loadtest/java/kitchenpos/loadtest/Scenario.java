@@ -0,0 +1,96 @@
+package kitchenpos.loadtest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Flows from {@code http/*.http}; only the first request of a flow follows the schedule.
+ */
+enum Scenario {
+    SEAT_AND_ORDER("seat-and-order") {
+        @Override
+        void run(final KitchenposClient client, final long scheduledNanos) {
+            final long orderTableId = createTable(client, scheduledNanos);
+            client.put("/api/tables/{orderTableId}/empty",
+                    "/api/tables/" + orderTableId + "/empty", body("empty", false), System.nanoTime());
+            client.put("/api/tables/{orderTableId}/number-of-guests",
+                    "/api/tables/" + orderTableId + "/number-of-guests", body("numberOfGuests", 4), System.nanoTime());
+
+            final long orderId = client.post("/api/orders", "/api/orders", body(
+                    "orderTableId", orderTableId,
+                    "orderLineItems", Arrays.asList(body("menuId", 1, "quantity", 2), body("menuId", 2, "quantity", 1))
+            ), System.nanoTime()).get("id").asLong();
+            client.put("/api/orders/{orderId}/order-status",
+                    "/api/orders/" + orderId + "/order-status", body("orderStatus", "MEAL"), System.nanoTime());
+            client.put("/api/orders/{orderId}/order-status",
+                    "/api/orders/" + orderId + "/order-status", body("orderStatus", "COMPLETION"), System.nanoTime());
+            client.put("/api/tables/{orderTableId}/empty",
+                    "/api/tables/" + orderTableId + "/empty", body("empty", true), System.nanoTime());
+        }
+    },
+    GROUP_AND_UNGROUP("group-and-ungroup") {
+        @Override
+        void run(final KitchenposClient client, final long scheduledNanos) {
+            final long first = createTable(client, scheduledNanos);
+            final long second = createTable(client, System.nanoTime());
+            final long tableGroupId = client.post("/api/table-groups", "/api/table-groups", body(
+                    "orderTables", Arrays.asList(body("id", first), body("id", second))
+            ), System.nanoTime()).get("id").asLong();
+            client.delete("/api/table-groups/{tableGroupId}",
+                    "/api/table-groups/" + tableGroupId, System.nanoTime());
+        }
+    },
+    LIST_MENUS("list-menus") {
+        @Override
+        void run(final KitchenposClient client, final long scheduledNanos) {
+            client.get("/api/menus", "/api/menus", scheduledNanos);
+        }
+    },
+    LIST_TABLES("list-tables") {
+        @Override
+        void run(final KitchenposClient client, final long scheduledNanos) {
+            client.get("/api/tables", "/api/tables", scheduledNanos);
+        }
+    },
+    LIST_ORDERS("list-orders") {
+        @Override
+        void run(final KitchenposClient client, final long scheduledNanos) {
+            client.get("/api/orders", "/api/orders", scheduledNanos);
+        }
+    };
+
+    private final String key;
+
+    Scenario(final String key) {
+        this.key = key;
+    }
+
+    abstract void run(KitchenposClient client, long scheduledNanos);
+
+    String getKey() {
+        return key;
+    }
+
+    static Scenario of(final String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + key));
+    }
+
+    private static long createTable(final KitchenposClient client, final long scheduledNanos) {
+        return client.post("/api/tables", "/api/tables", body("numberOfGuests", 0, "empty", true), scheduledNanos)
+                .get("id")
+                .asLong();
+    }
+
+    private static Map<String, Object> body(final Object... keyValues) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            body.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return Collections.unmodifiableMap(body);
+    }
+}
@@ -0,0 +1,53 @@
+package kitchenpos.admission;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Objects;
+
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    private static final String STARTED_AT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".STARTED_AT";
+
+    private final AimdConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public AdmissionControlInterceptor(final AimdConcurrencyLimiter limiter, final Duration retryAfter) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.getSeconds()));
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if ("GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return false;
+        }
+        request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex
+    ) {
+        final Object startedAt = request.getAttribute(STARTED_AT_ATTRIBUTE);
+        if (Objects.isNull(startedAt)) {
+            return;
+        }
+        final boolean failed = !(ex instanceof IllegalArgumentException)
+                && (Objects.nonNull(ex) || response.getStatus() >= 500);
+        limiter.release(System.nanoTime() - (Long) startedAt, failed);
+    }
+}
@@ -0,0 +1,122 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.domain.BatchOperation;
+import kitchenpos.domain.BatchOperationResult;
+import kitchenpos.domain.BatchRequest;
+import kitchenpos.domain.BatchResult;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Runs an ordered list of table, order and table group operations in one call.
+ */
+@Service
+public class BatchService {
+    private final TableService tableService;
+    private final OrderService orderService;
+    private final TableGroupService tableGroupService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxOperations;
+
+    public BatchService(
+            final TableService tableService,
+            final OrderService orderService,
+            final TableGroupService tableGroupService,
+            final TransactionTemplate transactionTemplate,
+            final ObjectMapper objectMapper,
+            @Value("${kitchenpos.batch.max-operations:100}") final int maxOperations
+    ) {
+        this.tableService = tableService;
+        this.orderService = orderService;
+        this.tableGroupService = tableGroupService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.maxOperations = maxOperations;
+    }
+
+    public BatchResult execute(final BatchRequest batchRequest) {
+        final List<BatchOperation> operations = batchRequest.getOperations();
+
+        if (CollectionUtils.isEmpty(operations) || operations.size() > maxOperations) {
+            throw new IllegalArgumentException();
+        }
+
+        if (batchRequest.isContinueOnError()) {
+            final List<BatchOperationResult> results = new ArrayList<>(operations.size());
+            for (final BatchOperation operation : operations) {
+                results.add(executeCatching(operation));
+            }
+            return new BatchResult(false, results);
+        }
+
+        return transactionTemplate.execute(status -> {
+            final List<BatchOperationResult> results = new ArrayList<>(operations.size());
+            for (final BatchOperation operation : operations) {
+                final BatchOperationResult result = executeCatching(operation);
+                results.add(result);
+                if (!result.isSucceeded()) {
+                    status.setRollbackOnly();
+                    return new BatchResult(true, results);
+                }
+            }
+            return new BatchResult(false, results);
+        });
+    }
+
+    private BatchOperationResult executeCatching(final BatchOperation operation) {
+        try {
+            return BatchOperationResult.succeeded(execute(operation));
+        } catch (final IllegalArgumentException | DataAccessException e) {
+            return BatchOperationResult.failed(e);
+        }
+    }
+
+    private Object execute(final BatchOperation operation) {
+        if (Objects.isNull(operation) || Objects.isNull(operation.getType())) {
+            throw new IllegalArgumentException();
+        }
+
+        switch (operation.getType()) {
+            case CREATE_TABLE:
+                return tableService.create(body(operation, OrderTable.class));
+            case CHANGE_EMPTY:
+                return tableService.changeEmpty(operation.getTargetId(), body(operation, OrderTable.class));
+            case CHANGE_NUMBER_OF_GUESTS:
+                return tableService.changeNumberOfGuests(operation.getTargetId(), body(operation, OrderTable.class));
+            case CREATE_ORDER:
+                return orderService.create(body(operation, Order.class));
+            case CHANGE_ORDER_STATUS:
+                return orderService.changeOrderStatus(operation.getTargetId(), body(operation, Order.class));
+            case CREATE_TABLE_GROUP:
+                return tableGroupService.create(body(operation, TableGroup.class));
+            case UNGROUP:
+                tableGroupService.ungroup(operation.getTargetId());
+                return null;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private <T> T body(final BatchOperation operation, final Class<T> type) {
+        final JsonNode body = operation.getBody();
+
+        if (Objects.isNull(body) || body.isNull()) {
+            throw new IllegalArgumentException();
+        }
+
+        return objectMapper.convertValue(body, type);
+    }
+}
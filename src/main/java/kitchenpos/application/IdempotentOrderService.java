@@ -0,0 +1,218 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.dao.IdempotencyKeyDao;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class IdempotentOrderService {
+    private final OrderService orderService;
+    private final IdempotencyKeyDao idempotencyKeyDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration timeToLive;
+    private final Map<String, IdempotencyKey> recentKeys;
+    private final Map<String, InFlightRequest> inFlightKeys = new ConcurrentHashMap<>();
+
+    public IdempotentOrderService(
+            final OrderService orderService,
+            final IdempotencyKeyDao idempotencyKeyDao,
+            final TransactionTemplate transactionTemplate,
+            final ObjectMapper objectMapper,
+            @Value("${kitchenpos.idempotency.time-to-live:PT24H}") final Duration timeToLive,
+            @Value("${kitchenpos.idempotency.max-cached-keys:10000}") final int maxCachedKeys
+    ) {
+        this.orderService = orderService;
+        this.idempotencyKeyDao = idempotencyKeyDao;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.timeToLive = timeToLive;
+        this.recentKeys = new LinkedHashMap<String, IdempotencyKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, IdempotencyKey> eldest) {
+                return size() > maxCachedKeys;
+            }
+        };
+    }
+
+    public Order create(final String key, final Order order) {
+        final String requestHash = fingerprint(order);
+        final Optional<Order> replayed = findResponse(key, requestHash);
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+
+        final InFlightRequest request = new InFlightRequest(requestHash);
+        final InFlightRequest inFlight = inFlightKeys.putIfAbsent(key, request);
+        if (Objects.nonNull(inFlight)) {
+            verifyFingerprint(inFlight.requestHash, requestHash);
+            return await(inFlight.response);
+        }
+
+        try {
+            final Order created = createOnce(key, requestHash, order);
+            request.response.complete(created);
+            return created;
+        } catch (final RuntimeException e) {
+            request.response.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightKeys.remove(key, request);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        final LocalDateTime expiredBefore = LocalDateTime.now().minus(timeToLive);
+        synchronized (recentKeys) {
+            final Iterator<IdempotencyKey> iterator = recentKeys.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getCreatedDate().isBefore(expiredBefore)) {
+                    iterator.remove();
+                }
+            }
+        }
+        idempotencyKeyDao.deleteAllByCreatedDateBefore(expiredBefore);
+    }
+
+    private Order createOnce(final String key, final String requestHash, final Order order) {
+        try {
+            return insert(key, requestHash, order);
+        } catch (final DuplicateKeyException e) {
+            final Optional<Order> replayed = findResponse(key, requestHash);
+            if (replayed.isPresent()) {
+                return replayed.get();
+            }
+        }
+
+        purgeExpiredKeys();
+        return insert(key, requestHash, order);
+    }
+
+    private Order insert(final String key, final String requestHash, final Order order) {
+        final IdempotencyKey savedKey = transactionTemplate.execute(status -> {
+            final Order created = orderService.create(order);
+            final IdempotencyKey idempotencyKey = new IdempotencyKey();
+            idempotencyKey.setIdempotencyKey(key);
+            idempotencyKey.setRequestHash(requestHash);
+            idempotencyKey.setResponseBody(serialize(created));
+            idempotencyKey.setCreatedDate(LocalDateTime.now());
+            return idempotencyKeyDao.save(idempotencyKey);
+        });
+
+        synchronized (recentKeys) {
+            recentKeys.put(key, savedKey);
+        }
+        return deserialize(savedKey.getResponseBody());
+    }
+
+    private Optional<Order> findResponse(final String key, final String requestHash) {
+        IdempotencyKey idempotencyKey;
+        synchronized (recentKeys) {
+            idempotencyKey = recentKeys.get(key);
+        }
+
+        if (Objects.isNull(idempotencyKey)) {
+            idempotencyKey = idempotencyKeyDao.findById(key).orElse(null);
+            if (Objects.isNull(idempotencyKey)) {
+                return Optional.empty();
+            }
+            synchronized (recentKeys) {
+                recentKeys.put(key, idempotencyKey);
+            }
+        }
+
+        if (idempotencyKey.getCreatedDate().isBefore(LocalDateTime.now().minus(timeToLive))) {
+            return Optional.empty();
+        }
+        verifyFingerprint(idempotencyKey.getRequestHash(), requestHash);
+        return Optional.of(deserialize(idempotencyKey.getResponseBody()));
+    }
+
+    private void verifyFingerprint(final String expected, final String actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private String fingerprint(final Order order) {
+        final StringBuilder request = new StringBuilder()
+                .append(order.getOrderTableId());
+        if (Objects.nonNull(order.getOrderLineItems())) {
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                request.append('|')
+                        .append(orderLineItem.getMenuId())
+                        .append('x')
+                        .append(orderLineItem.getQuantity());
+            }
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(request.toString().getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Order await(final CompletableFuture<Order> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String serialize(final Order order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Order deserialize(final String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, Order.class);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class InFlightRequest {
+        private final String requestHash;
+        private final CompletableFuture<Order> response = new CompletableFuture<>();
+
+        private InFlightRequest(final String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
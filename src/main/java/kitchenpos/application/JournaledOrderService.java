@@ -0,0 +1,195 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderReceipt;
+import kitchenpos.journal.JournalRecord;
+import kitchenpos.journal.OrderJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Acknowledges orders once journaled and creates them in the background.
+ */
+@Service
+@ConditionalOnProperty(prefix = "kitchenpos.journal", name = "enabled", havingValue = "true")
+public class JournaledOrderService implements SmartLifecycle {
+    private static final int PHASE = Integer.MAX_VALUE - 2;
+
+    private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final ObjectMapper objectMapper;
+    private final OrderJournal orderJournal;
+    private final int applyBatchSize;
+    private final long idleNanos;
+    private final long retryNanos;
+    private final long appendTimeoutNanos;
+    private final Counter applied;
+    private final Counter failed;
+    private volatile long appliedSequence;
+    private volatile boolean running;
+    private Thread applier;
+
+    public JournaledOrderService(
+            final OrderService orderService,
+            final IdempotentOrderService idempotentOrderService,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.journal.directory:./data/journal}") final String directory,
+            @Value("${kitchenpos.journal.segment-size:67108864}") final int segmentSize,
+            @Value("${kitchenpos.journal.group-commit-size:64}") final int groupCommitSize,
+            @Value("${kitchenpos.journal.group-commit-linger:PT0.0005S}") final Duration groupCommitLinger,
+            @Value("${kitchenpos.journal.apply-batch-size:256}") final int applyBatchSize,
+            @Value("${kitchenpos.journal.apply-idle:PT0.001S}") final Duration applyIdle,
+            @Value("${kitchenpos.journal.apply-retry:PT1S}") final Duration applyRetry,
+            @Value("${kitchenpos.journal.append-timeout:PT5S}") final Duration appendTimeout
+    ) {
+        this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.objectMapper = objectMapper;
+        this.orderJournal = new OrderJournal(Paths.get(directory), segmentSize, groupCommitSize, groupCommitLinger);
+        this.applyBatchSize = applyBatchSize;
+        this.idleNanos = applyIdle.toNanos();
+        this.retryNanos = applyRetry.toNanos();
+        this.appendTimeoutNanos = appendTimeout.toNanos();
+        this.applied = meterRegistry.counter("kitchenpos.journal.applied");
+        this.failed = meterRegistry.counter("kitchenpos.journal.failed");
+        Gauge.builder("kitchenpos.journal.backlog", this,
+                        service -> service.orderJournal.getDurableSequence() - service.appliedSequence)
+                .register(meterRegistry);
+    }
+
+    public OrderReceipt accept(final String idempotencyKey, final Order order) {
+        orderService.validate(order);
+
+        final String key = Objects.isNull(idempotencyKey) ? UUID.randomUUID().toString() : idempotencyKey;
+        final ObjectNode command = objectMapper.createObjectNode();
+        command.put("idempotencyKey", key);
+        command.set("order", objectMapper.valueToTree(order));
+        final long sequence;
+        try {
+            sequence = orderJournal.append(objectMapper.writeValueAsBytes(command))
+                    .get(appendTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final IOException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final OrderReceipt receipt = new OrderReceipt();
+        receipt.setSequence(sequence);
+        receipt.setIdempotencyKey(key);
+        return receipt;
+    }
+
+    @Override
+    public void start() {
+        try {
+            orderJournal.open();
+            appliedSequence = orderJournal.readCheckpoint();
+            while (applyBatch() > 0) {
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        running = true;
+        applier = new Thread(this::applyLoop, "order-journal-applier");
+        applier.setDaemon(true);
+        applier.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        orderJournal.close();
+        if (Objects.nonNull(applier)) {
+            try {
+                applier.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void applyLoop() {
+        while (running) {
+            try {
+                if (applyBatch() == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            } catch (final IOException | RuntimeException e) {
+                failed.increment();
+                LockSupport.parkNanos(retryNanos);
+                rewind();
+            }
+        }
+    }
+
+    private int applyBatch() throws IOException {
+        final List<JournalRecord> records = orderJournal.read(applyBatchSize);
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        for (final JournalRecord record : records) {
+            apply(record);
+            appliedSequence = record.getSequence();
+        }
+        orderJournal.writeCheckpoint(appliedSequence);
+        return records.size();
+    }
+
+    private void rewind() {
+        try {
+            orderJournal.seek(appliedSequence);
+        } catch (final IOException e) {
+            failed.increment();
+        }
+    }
+
+    private void apply(final JournalRecord record) throws IOException {
+        final JsonNode command = objectMapper.readTree(record.getPayload());
+        try {
+            idempotentOrderService.create(command.get("idempotencyKey").asText(), objectMapper.treeToValue(command.get("order"), Order.class));
+            applied.increment();
+        } catch (final IllegalArgumentException e) {
+            failed.increment();
+        }
+    }
+}
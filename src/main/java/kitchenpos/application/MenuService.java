@@ -9,11 +9,15 @@ import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
@@ -72,13 +76,40 @@ public class MenuService {
         return savedMenu;
     }
 
+    @Transactional(readOnly = true)
     public List<Menu> list() {
         final List<Menu> menus = menuDao.findAll();
+        final Map<Long, List<MenuProduct>> menuProducts = menuProductDao.findAll().stream()
+                .collect(Collectors.groupingBy(MenuProduct::getMenuId));
 
         for (final Menu menu : menus) {
-            menu.setMenuProducts(menuProductDao.findAllByMenuId(menu.getId()));
+            menu.setMenuProducts(menuProducts.getOrDefault(menu.getId(), new ArrayList<>()));
         }
 
         return menus;
     }
+
+    @Transactional(readOnly = true)
+    public void list(final Consumer<Menu> action) {
+        menuDao.findAllWithMenuProducts(action);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Menu> list(final List<String> fields) {
+        final List<Menu> menus = new ArrayList<>();
+        list(fields, menus::add);
+        return menus;
+    }
+
+    @Transactional(readOnly = true)
+    public void list(final List<String> fields, final Consumer<Menu> action) {
+        validateFields(fields);
+        menuDao.findAll(fields, action);
+    }
+
+    public void validateFields(final List<String> fields) {
+        if (CollectionUtils.isEmpty(fields) || !MenuDao.FIELDS.containsAll(fields)) {
+            throw new IllegalArgumentException();
+        }
+    }
 }
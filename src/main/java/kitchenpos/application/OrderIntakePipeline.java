@@ -0,0 +1,202 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Batches concurrent order creations into one {@link OrderService#createAll} call.
+ */
+@Service
+@ConditionalOnProperty(prefix = "kitchenpos.order-intake.batching", name = "enabled", havingValue = "true")
+public class OrderIntakePipeline implements SmartLifecycle {
+    private static final long POLL_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final OrderService orderService;
+    private final BlockingQueue<PendingOrder> pendingOrders = new LinkedBlockingQueue<>();
+    private final Object intakeLock = new Object();
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutNanos;
+    private final DistributionSummary batchSize;
+    private final Counter fallbacks;
+    private volatile boolean running;
+    private Thread batcher;
+
+    public OrderIntakePipeline(
+            final OrderService orderService,
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.order-intake.batching.window:PT0.002S}") final Duration window,
+            @Value("${kitchenpos.order-intake.batching.max-batch-size:64}") final int maxBatchSize,
+            @Value("${kitchenpos.order-intake.batching.timeout:PT5S}") final Duration timeout
+    ) {
+        this.orderService = orderService;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutNanos = timeout.toNanos();
+        this.batchSize = DistributionSummary.builder("kitchenpos.order-intake.batch.size")
+                .register(meterRegistry);
+        this.fallbacks = meterRegistry.counter("kitchenpos.order-intake.batch.fallbacks");
+    }
+
+    public Order create(final Order order) {
+        final PendingOrder pendingOrder = new PendingOrder(order);
+        if (!enqueue(pendingOrder)) {
+            return orderService.create(order);
+        }
+
+        try {
+            return pendingOrder.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        batcher = new Thread(this::batchLoop, "order-intake-batcher");
+        batcher.setDaemon(true);
+        batcher.start();
+    }
+
+    @Override
+    public void stop() {
+        shutDown();
+        if (Objects.nonNull(batcher)) {
+            try {
+                batcher.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        failPendingOrders();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void batchLoop() {
+        while (running || !pendingOrders.isEmpty()) {
+            try {
+                final List<PendingOrder> batch = collect();
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shutDown();
+                failPendingOrders();
+                return;
+            }
+        }
+    }
+
+    private boolean enqueue(final PendingOrder pendingOrder) {
+        synchronized (intakeLock) {
+            if (!running || !batcher.isAlive()) {
+                return false;
+            }
+            return pendingOrders.add(pendingOrder);
+        }
+    }
+
+    private void shutDown() {
+        synchronized (intakeLock) {
+            running = false;
+        }
+    }
+
+    private void failPendingOrders() {
+        final List<PendingOrder> leftovers = new ArrayList<>();
+        pendingOrders.drainTo(leftovers);
+        leftovers.forEach(pendingOrder -> pendingOrder.result.completeExceptionally(
+                new IllegalStateException("Order intake is not accepting orders")));
+    }
+
+    private List<PendingOrder> collect() throws InterruptedException {
+        final List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        final PendingOrder first = pendingOrders.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+        if (Objects.isNull(first)) {
+            return batch;
+        }
+
+        batch.add(first);
+        final long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 && pendingOrders.drainTo(batch, maxBatchSize - batch.size()) == 0) {
+                break;
+            }
+            final PendingOrder next = pendingOrders.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            if (Objects.isNull(next)) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void process(final List<PendingOrder> batch) {
+        batchSize.record(batch.size());
+
+        final List<Order> orders = new ArrayList<>(batch.size());
+        batch.forEach(pendingOrder -> orders.add(pendingOrder.order));
+        try {
+            final List<Order> savedOrders = orderService.createAll(orders);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(savedOrders.get(i));
+            }
+            return;
+        } catch (final RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            fallbacks.increment();
+        }
+
+        for (final PendingOrder pendingOrder : batch) {
+            try {
+                pendingOrder.result.complete(orderService.create(pendingOrder.order));
+            } catch (final RuntimeException e) {
+                pendingOrder.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class PendingOrder {
+        private final Order order;
+        private final CompletableFuture<Order> result = new CompletableFuture<>();
+
+        private PendingOrder(final Order order) {
+            this.order = order;
+        }
+    }
+}
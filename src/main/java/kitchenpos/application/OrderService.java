@@ -4,18 +4,27 @@ import kitchenpos.dao.MenuDao;
 import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderLineItemDao;
 import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.Menu;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
 import kitchenpos.domain.OrderTable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,43 +33,30 @@ public class OrderService {
     private final OrderDao orderDao;
     private final OrderLineItemDao orderLineItemDao;
     private final OrderTableDao orderTableDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
             final MenuDao menuDao,
             final OrderDao orderDao,
             final OrderLineItemDao orderLineItemDao,
-            final OrderTableDao orderTableDao
+            final OrderTableDao orderTableDao,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.menuDao = menuDao;
         this.orderDao = orderDao;
         this.orderLineItemDao = orderLineItemDao;
         this.orderTableDao = orderTableDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Order create(final Order order) {
         final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
-
-        if (CollectionUtils.isEmpty(orderLineItems)) {
-            throw new IllegalArgumentException();
-        }
-
-        final List<Long> menuIds = orderLineItems.stream()
-                .map(OrderLineItem::getMenuId)
-                .collect(Collectors.toList());
-
-        if (orderLineItems.size() != menuDao.countByIdIn(menuIds)) {
-            throw new IllegalArgumentException();
-        }
+        validateOrderLineItems(orderLineItems);
 
         order.setId(null);
 
-        final OrderTable orderTable = orderTableDao.findById(order.getOrderTableId())
-                .orElseThrow(IllegalArgumentException::new);
-
-        if (orderTable.isEmpty()) {
-            throw new IllegalArgumentException();
-        }
+        final OrderTable orderTable = findSeatedTable(order.getOrderTableId());
 
         order.setOrderTableId(orderTable.getId());
         order.setOrderStatus(OrderStatus.COOKING.name());
@@ -69,26 +65,121 @@ public class OrderService {
         final Order savedOrder = orderDao.save(order);
 
         final Long orderId = savedOrder.getId();
-        final List<OrderLineItem> savedOrderLineItems = new ArrayList<>();
         for (final OrderLineItem orderLineItem : orderLineItems) {
             orderLineItem.setOrderId(orderId);
-            savedOrderLineItems.add(orderLineItemDao.save(orderLineItem));
         }
-        savedOrder.setOrderLineItems(savedOrderLineItems);
+        orderLineItemDao.saveAll(orderLineItems);
+        savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
+
+        eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder));
 
         return savedOrder;
     }
 
+    @Transactional
+    public List<Order> createAll(final List<Order> orders) {
+        final Set<Long> menuIds = new HashSet<>();
+        final Set<Long> orderTableIds = new HashSet<>();
+        for (final Order order : orders) {
+            if (CollectionUtils.isEmpty(order.getOrderLineItems()) || Objects.isNull(order.getOrderTableId())) {
+                throw new IllegalArgumentException();
+            }
+            order.getOrderLineItems().forEach(orderLineItem -> menuIds.add(orderLineItem.getMenuId()));
+            orderTableIds.add(order.getOrderTableId());
+        }
+
+        final Set<Long> savedMenuIds = menuDao.findAllByIdIn(new ArrayList<>(menuIds)).stream()
+                .map(Menu::getId)
+                .collect(Collectors.toSet());
+        final Map<Long, OrderTable> orderTables = orderTableDao.findAllByIdIn(new ArrayList<>(orderTableIds)).stream()
+                .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+
+        final LocalDateTime orderedTime = LocalDateTime.now();
+        for (final Order order : orders) {
+            final List<Long> orderMenuIds = order.getOrderLineItems().stream()
+                    .map(OrderLineItem::getMenuId)
+                    .collect(Collectors.toList());
+            if (new HashSet<>(orderMenuIds).size() != orderMenuIds.size() || !savedMenuIds.containsAll(orderMenuIds)) {
+                throw new IllegalArgumentException();
+            }
+
+            final OrderTable orderTable = orderTables.get(order.getOrderTableId());
+            if (Objects.isNull(orderTable) || orderTable.isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+
+            order.setId(null);
+            order.setOrderStatus(OrderStatus.COOKING.name());
+            order.setOrderedTime(orderedTime);
+        }
+
+        final List<Order> savedOrders = orderDao.saveAll(orders);
+
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Order savedOrder : savedOrders) {
+            for (final OrderLineItem orderLineItem : savedOrder.getOrderLineItems()) {
+                orderLineItem.setOrderId(savedOrder.getId());
+                orderLineItems.add(orderLineItem);
+            }
+        }
+        orderLineItemDao.saveAll(orderLineItems);
+
+        final Map<Long, List<OrderLineItem>> savedOrderLineItems = orderLineItemDao.findAllByOrderIdIn(
+                savedOrders.stream()
+                        .map(Order::getId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+        for (final Order savedOrder : savedOrders) {
+            savedOrder.setOrderLineItems(savedOrderLineItems.get(savedOrder.getId()));
+            eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder));
+        }
+
+        return savedOrders;
+    }
+
+    @Transactional(readOnly = true)
+    public void validate(final Order order) {
+        validateOrderLineItems(order.getOrderLineItems());
+        findSeatedTable(order.getOrderTableId());
+    }
+
+    @Transactional(readOnly = true)
     public List<Order> list() {
         final List<Order> orders = orderDao.findAll();
+        final Map<Long, List<OrderLineItem>> orderLineItems = orderLineItemDao.findAll().stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
 
         for (final Order order : orders) {
-            order.setOrderLineItems(orderLineItemDao.findAllByOrderId(order.getId()));
+            order.setOrderLineItems(orderLineItems.getOrDefault(order.getId(), new ArrayList<>()));
         }
 
         return orders;
     }
 
+    @Transactional(readOnly = true)
+    public void list(final Consumer<Order> action) {
+        orderDao.findAllWithOrderLineItems(action);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> list(final List<String> fields) {
+        final List<Order> orders = new ArrayList<>();
+        list(fields, orders::add);
+        return orders;
+    }
+
+    @Transactional(readOnly = true)
+    public void list(final List<String> fields, final Consumer<Order> action) {
+        validateFields(fields);
+        orderDao.findAll(fields, action);
+    }
+
+    public void validateFields(final List<String> fields) {
+        if (CollectionUtils.isEmpty(fields) || !OrderDao.FIELDS.containsAll(fields)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
     @Transactional
     public Order changeOrderStatus(final Long orderId, final Order order) {
         final Order savedOrder = orderDao.findById(orderId)
@@ -98,6 +189,7 @@ public class OrderService {
             throw new IllegalArgumentException();
         }
 
+        final String previousOrderStatus = savedOrder.getOrderStatus();
         final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
         savedOrder.setOrderStatus(orderStatus.name());
 
@@ -105,6 +197,32 @@ public class OrderService {
 
         savedOrder.setOrderLineItems(orderLineItemDao.findAllByOrderId(orderId));
 
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder, previousOrderStatus));
+
         return savedOrder;
     }
+
+    private void validateOrderLineItems(final List<OrderLineItem> orderLineItems) {
+        if (CollectionUtils.isEmpty(orderLineItems)) {
+            throw new IllegalArgumentException();
+        }
+
+        final List<Long> menuIds = orderLineItems.stream()
+                .map(OrderLineItem::getMenuId)
+                .collect(Collectors.toList());
+
+        if (orderLineItems.size() != menuDao.countByIdIn(menuIds)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private OrderTable findSeatedTable(final Long orderTableId) {
+        final OrderTable orderTable = orderTableDao.findById(orderTableId)
+                .orElseThrow(IllegalArgumentException::new);
+
+        if (orderTable.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        return orderTable;
+    }
 }
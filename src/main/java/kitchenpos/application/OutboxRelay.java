@@ -0,0 +1,104 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.dao.OutboxEventDao;
+import kitchenpos.domain.OutboxEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Hands outbox batches to every {@link OutboxSink} and deletes them once all accepted.
+ */
+@Service
+@ConditionalOnProperty(prefix = "kitchenpos.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+    private final OutboxEventDao outboxEventDao;
+    private final ObjectProvider<OutboxSink> outboxSinks;
+    private final int batchSize;
+    private final Timer deliveryLag;
+    private final Counter delivered;
+    private final Counter failed;
+    private volatile long pending;
+    private volatile Optional<LocalDateTime> oldestCreatedDate = Optional.empty();
+
+    public OutboxRelay(
+            final OutboxEventDao outboxEventDao,
+            final ObjectProvider<OutboxSink> outboxSinks,
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.outbox.batch-size:100}") final int batchSize
+    ) {
+        this.outboxEventDao = outboxEventDao;
+        this.outboxSinks = outboxSinks;
+        this.batchSize = batchSize;
+        this.deliveryLag = Timer.builder("kitchenpos.outbox.delivery.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.delivered = meterRegistry.counter("kitchenpos.outbox.delivered");
+        this.failed = meterRegistry.counter("kitchenpos.outbox.failed");
+        Gauge.builder("kitchenpos.outbox.pending", this, relay -> relay.pending)
+                .register(meterRegistry);
+        Gauge.builder("kitchenpos.outbox.lag", this, OutboxRelay::lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.outbox.relay-interval:PT0.2S}")
+    public void relay() {
+        final List<OutboxSink> sinks = outboxSinks.orderedStream()
+                .collect(Collectors.toList());
+        if (sinks.isEmpty()) {
+            return;
+        }
+
+        while (true) {
+            final List<OutboxEvent> events = outboxEventDao.findFirstOrderById(batchSize);
+            if (events.isEmpty()) {
+                return;
+            }
+
+            try {
+                sinks.forEach(outboxSink -> outboxSink.deliver(events));
+            } catch (final RuntimeException e) {
+                failed.increment(events.size());
+                return;
+            }
+
+            outboxEventDao.deleteAllByIdIn(events.stream()
+                    .map(OutboxEvent::getId)
+                    .collect(Collectors.toList()));
+            delivered.increment(events.size());
+            final LocalDateTime now = LocalDateTime.now();
+            for (final OutboxEvent event : events) {
+                deliveryLag.record(Duration.between(event.getCreatedDate(), now));
+            }
+
+            if (events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.outbox.metrics-interval:PT30S}")
+    public void refreshMetrics() {
+        pending = outboxEventDao.count();
+        oldestCreatedDate = outboxEventDao.findMinCreatedDate();
+    }
+
+    private double lagSeconds() {
+        return oldestCreatedDate
+                .map(createdDate -> Duration.between(createdDate, LocalDateTime.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+}
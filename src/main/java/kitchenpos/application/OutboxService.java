@@ -0,0 +1,75 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.dao.OutboxEventDao;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderTableChangedEvent;
+import kitchenpos.domain.OutboxEvent;
+import kitchenpos.domain.TableGroupCreatedEvent;
+import kitchenpos.domain.TableGroupUngroupedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@ConditionalOnProperty(prefix = "kitchenpos.outbox", name = "enabled", havingValue = "true")
+public class OutboxService {
+    private static final String ORDER = "Order";
+    private static final String ORDER_TABLE = "OrderTable";
+    private static final String TABLE_GROUP = "TableGroup";
+
+    private final OutboxEventDao outboxEventDao;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(final OutboxEventDao outboxEventDao, final ObjectMapper objectMapper) {
+        this.outboxEventDao = outboxEventDao;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void append(final OrderCreatedEvent event) {
+        append(ORDER, event.getOrder().getId(), "OrderCreated", event.getOrder());
+    }
+
+    @EventListener
+    public void append(final OrderStatusChangedEvent event) {
+        append(ORDER, event.getOrder().getId(), "OrderStatusChanged", event.getOrder());
+    }
+
+    @EventListener
+    public void append(final OrderTableChangedEvent event) {
+        append(ORDER_TABLE, event.getOrderTable().getId(), "OrderTableChanged", event.getOrderTable());
+    }
+
+    @EventListener
+    public void append(final TableGroupCreatedEvent event) {
+        append(TABLE_GROUP, event.getTableGroup().getId(), "TableGroupCreated", event.getTableGroup());
+    }
+
+    @EventListener
+    public void append(final TableGroupUngroupedEvent event) {
+        append(TABLE_GROUP, event.getTableGroupId(), "TableGroupUngrouped", event.getOrderTables());
+    }
+
+    private void append(final String aggregateType, final Long aggregateId, final String eventType, final Object payload) {
+        final OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateType(aggregateType);
+        outboxEvent.setAggregateId(aggregateId);
+        outboxEvent.setEventType(eventType);
+        outboxEvent.setPayload(toJson(payload));
+        outboxEvent.setCreatedDate(LocalDateTime.now());
+        outboxEventDao.save(outboxEvent);
+    }
+
+    private String toJson(final Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
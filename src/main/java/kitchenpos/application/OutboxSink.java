@@ -0,0 +1,12 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * At-least-once consumer of the outbox.
+ */
+public interface OutboxSink {
+    void deliver(List<OutboxEvent> events);
+}
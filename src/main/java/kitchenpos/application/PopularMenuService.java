@@ -0,0 +1,53 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.PopularMenu;
+import kitchenpos.domain.PopularityWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class PopularMenuService {
+    private static final Duration RECENT_SLOT_DURATION = Duration.ofMinutes(1);
+    private static final Duration TODAY_SLOT_DURATION = Duration.ofDays(1);
+
+    private final Map<PopularityWindow, SlidingWindowSketch> sketches = new EnumMap<>(PopularityWindow.class);
+    private final int maxSize;
+
+    public PopularMenuService(
+            @Value("${kitchenpos.popular-menus.recent-window:PT15M}") final Duration recentWindow,
+            @Value("${kitchenpos.popular-menus.capacity:128}") final int capacity
+    ) {
+        final Clock clock = Clock.systemDefaultZone();
+        final int recentSlotCount = (int) Math.max(1, recentWindow.toMinutes());
+        sketches.put(PopularityWindow.RECENT,
+                new SlidingWindowSketch(clock, RECENT_SLOT_DURATION, recentSlotCount, capacity));
+        sketches.put(PopularityWindow.TODAY, new SlidingWindowSketch(clock, TODAY_SLOT_DURATION, 1, capacity));
+        this.maxSize = capacity;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void count(final OrderCreatedEvent event) {
+        for (final OrderLineItem orderLineItem : event.getOrder().getOrderLineItems()) {
+            for (final SlidingWindowSketch sketch : sketches.values()) {
+                sketch.add(orderLineItem.getMenuId(), orderLineItem.getQuantity());
+            }
+        }
+    }
+
+    public List<PopularMenu> list(final PopularityWindow window, final int size) {
+        if (size < 0 || size > maxSize) {
+            throw new IllegalArgumentException();
+        }
+
+        return sketches.get(window).top(size);
+    }
+}
@@ -0,0 +1,81 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.PrepItem;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class PrepBoardService implements SmartInitializingSingleton {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final OrderLineItemDao orderLineItemDao;
+    private long[] pendingQuantities = new long[INITIAL_CAPACITY];
+
+    public PrepBoardService(final OrderLineItemDao orderLineItemDao) {
+        this.orderLineItemDao = orderLineItemDao;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final List<PrepItem> prepItems = orderLineItemDao.sumQuantityGroupByMenuIdByOrderStatus(OrderStatus.COOKING.name());
+        synchronized (this) {
+            Arrays.fill(pendingQuantities, 0);
+            for (final PrepItem prepItem : prepItems) {
+                add(prepItem.getMenuId(), prepItem.getQuantity());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void increase(final OrderCreatedEvent event) {
+        for (final OrderLineItem orderLineItem : event.getOrder().getOrderLineItems()) {
+            add(orderLineItem.getMenuId(), orderLineItem.getQuantity());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void change(final OrderStatusChangedEvent event) {
+        final boolean wasCooking = Objects.equals(OrderStatus.COOKING.name(), event.getPreviousOrderStatus());
+        final boolean isCooking = Objects.equals(OrderStatus.COOKING.name(), event.getOrder().getOrderStatus());
+        if (wasCooking == isCooking) {
+            return;
+        }
+
+        final long sign = isCooking ? 1 : -1;
+        for (final OrderLineItem orderLineItem : event.getOrder().getOrderLineItems()) {
+            add(orderLineItem.getMenuId(), sign * orderLineItem.getQuantity());
+        }
+    }
+
+    public synchronized List<PrepItem> list() {
+        final List<PrepItem> prepItems = new ArrayList<>();
+        for (int menuId = 0; menuId < pendingQuantities.length; menuId++) {
+            if (pendingQuantities[menuId] > 0) {
+                final PrepItem prepItem = new PrepItem();
+                prepItem.setMenuId((long) menuId);
+                prepItem.setQuantity(pendingQuantities[menuId]);
+                prepItems.add(prepItem);
+            }
+        }
+        return prepItems;
+    }
+
+    private void add(final Long menuId, final long quantity) {
+        final int index = Math.toIntExact(menuId);
+        if (index >= pendingQuantities.length) {
+            pendingQuantities = Arrays.copyOf(pendingQuantities, Integer.highestOneBit(index) << 1);
+        }
+        pendingQuantities[index] = Math.max(0, pendingQuantities[index] + quantity);
+    }
+}
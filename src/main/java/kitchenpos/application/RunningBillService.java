@@ -0,0 +1,98 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.RunningBillDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreatedEvent;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderTableEmptiedEvent;
+import kitchenpos.domain.RunningBill;
+import kitchenpos.domain.TableGroupBill;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+public class RunningBillService {
+    private final MenuDao menuDao;
+    private final RunningBillDao runningBillDao;
+
+    public RunningBillService(final MenuDao menuDao, final RunningBillDao runningBillDao) {
+        this.menuDao = menuDao;
+        this.runningBillDao = runningBillDao;
+    }
+
+    @EventListener
+    public void charge(final OrderCreatedEvent event) {
+        final Order order = event.getOrder();
+        final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
+        final List<Long> menuIds = orderLineItems.stream()
+                .map(OrderLineItem::getMenuId)
+                .distinct()
+                .collect(Collectors.toList());
+        final Map<Long, BigDecimal> prices = menuDao.findAllByIdIn(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Menu::getPrice));
+
+        BigDecimal amount = BigDecimal.ZERO;
+        for (final OrderLineItem orderLineItem : orderLineItems) {
+            amount = amount.add(prices.get(orderLineItem.getMenuId())
+                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity())));
+        }
+
+        runningBillDao.add(order.getOrderTableId(), amount, 1, 1);
+    }
+
+    @EventListener
+    public void changeOpenOrderCount(final OrderStatusChangedEvent event) {
+        final boolean wasOpen = !Objects.equals(OrderStatus.COMPLETION.name(), event.getPreviousOrderStatus());
+        final boolean isOpen = !Objects.equals(OrderStatus.COMPLETION.name(), event.getOrder().getOrderStatus());
+        if (wasOpen == isOpen) {
+            return;
+        }
+
+        runningBillDao.add(event.getOrder().getOrderTableId(), BigDecimal.ZERO, 0, isOpen ? 1 : -1);
+    }
+
+    @EventListener
+    public void reset(final OrderTableEmptiedEvent event) {
+        runningBillDao.deleteById(event.getOrderTableId());
+    }
+
+    public RunningBill find(final Long orderTableId) {
+        return runningBillDao.findById(orderTableId)
+                .orElseGet(() -> emptyBill(orderTableId));
+    }
+
+    public TableGroupBill findByTableGroupId(final Long tableGroupId) {
+        final List<RunningBill> runningBills = runningBillDao.findAllByTableGroupId(tableGroupId);
+
+        final TableGroupBill tableGroupBill = new TableGroupBill();
+        tableGroupBill.setTableGroupId(tableGroupId);
+        tableGroupBill.setAmount(runningBills.stream()
+                .map(RunningBill::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        tableGroupBill.setOrderCount(runningBills.stream()
+                .mapToLong(RunningBill::getOrderCount)
+                .sum());
+        tableGroupBill.setOpenOrderCount(runningBills.stream()
+                .mapToLong(RunningBill::getOpenOrderCount)
+                .sum());
+        tableGroupBill.setRunningBills(runningBills);
+        return tableGroupBill;
+    }
+
+    private RunningBill emptyBill(final Long orderTableId) {
+        final RunningBill runningBill = new RunningBill();
+        runningBill.setOrderTableId(orderTableId);
+        runningBill.setAmount(BigDecimal.ZERO);
+        return runningBill;
+    }
+}
@@ -0,0 +1,122 @@
+package kitchenpos.application;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.SalesAggregateDao;
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SalesAggregateService {
+    private final MenuDao menuDao;
+    private final SalesAggregateDao salesAggregateDao;
+
+    public SalesAggregateService(final MenuDao menuDao, final SalesAggregateDao salesAggregateDao) {
+        this.menuDao = menuDao;
+        this.salesAggregateDao = salesAggregateDao;
+    }
+
+    @EventListener
+    public void aggregate(final OrderStatusChangedEvent event) {
+        final Order order = event.getOrder();
+
+        if (!Objects.equals(OrderStatus.COMPLETION.name(), order.getOrderStatus())) {
+            return;
+        }
+
+        final List<OrderLineItem> orderLineItems = order.getOrderLineItems();
+        final List<Long> menuIds = orderLineItems.stream()
+                .map(OrderLineItem::getMenuId)
+                .distinct()
+                .collect(Collectors.toList());
+        final Map<Long, Menu> menus = menuDao.findAllByIdIn(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
+        final Map<Long, MenuSales> menuSales = new TreeMap<>();
+        final Map<Long, MenuGroupSales> menuGroupSales = new TreeMap<>();
+        long quantity = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (final OrderLineItem orderLineItem : orderLineItems) {
+            final Menu menu = menus.get(orderLineItem.getMenuId());
+            final BigDecimal amount = menu.getPrice().multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+            accumulate(menuSales.computeIfAbsent(menu.getId(), this::newMenuSales), orderLineItem, amount);
+            accumulate(menuGroupSales.computeIfAbsent(menu.getMenuGroupId(), this::newMenuGroupSales),
+                    orderLineItem, amount);
+            quantity += orderLineItem.getQuantity();
+            revenue = revenue.add(amount);
+        }
+
+        for (final MenuSales sales : menuSales.values()) {
+            salesAggregateDao.addMenuSales(sales.getMenuId(), sales.getQuantity(), sales.getRevenue());
+        }
+        for (final MenuGroupSales sales : menuGroupSales.values()) {
+            salesAggregateDao.addMenuGroupSales(sales.getMenuGroupId(), sales.getQuantity(), sales.getRevenue());
+        }
+        salesAggregateDao.addHourlySales(toHourBucket(order.getOrderedTime()), 1, quantity, revenue);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuSales> listMenuSales() {
+        return salesAggregateDao.findAllMenuSales();
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuGroupSales> listMenuGroupSales() {
+        return salesAggregateDao.findAllMenuGroupSales();
+    }
+
+    @Transactional(readOnly = true)
+    public List<HourlySales> listHourlySales(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+
+        return salesAggregateDao.findAllHourlySalesByHourBucketBetween(toHourBucket(from), to);
+    }
+
+    private LocalDateTime toHourBucket(final LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private MenuSales newMenuSales(final Long menuId) {
+        final MenuSales sales = new MenuSales();
+        sales.setMenuId(menuId);
+        sales.setRevenue(BigDecimal.ZERO);
+        return sales;
+    }
+
+    private MenuGroupSales newMenuGroupSales(final Long menuGroupId) {
+        final MenuGroupSales sales = new MenuGroupSales();
+        sales.setMenuGroupId(menuGroupId);
+        sales.setRevenue(BigDecimal.ZERO);
+        return sales;
+    }
+
+    private void accumulate(final MenuSales sales, final OrderLineItem orderLineItem, final BigDecimal amount) {
+        sales.setQuantity(sales.getQuantity() + orderLineItem.getQuantity());
+        sales.setRevenue(sales.getRevenue().add(amount));
+    }
+
+    private void accumulate(final MenuGroupSales sales, final OrderLineItem orderLineItem, final BigDecimal amount) {
+        sales.setQuantity(sales.getQuantity() + orderLineItem.getQuantity());
+        sales.setRevenue(sales.getRevenue().add(amount));
+    }
+}
@@ -0,0 +1,64 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.PopularMenu;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ring of {@link SpaceSavingSketch} slots aligned to the clock's local time.
+ */
+class SlidingWindowSketch {
+    private final Clock clock;
+    private final long slotSeconds;
+    private final SpaceSavingSketch[] slots;
+    private final long[] slotIndexes;
+
+    SlidingWindowSketch(final Clock clock, final Duration slotDuration, final int slotCount, final int capacity) {
+        this.clock = clock;
+        this.slotSeconds = slotDuration.getSeconds();
+        this.slots = new SpaceSavingSketch[slotCount];
+        this.slotIndexes = new long[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new SpaceSavingSketch(capacity);
+            slotIndexes[i] = -1;
+        }
+    }
+
+    synchronized void add(final Long key, final long weight) {
+        final long slotIndex = currentSlotIndex();
+        final int position = (int) (slotIndex % slots.length);
+        if (slotIndexes[position] != slotIndex) {
+            slots[position].clear();
+            slotIndexes[position] = slotIndex;
+        }
+        slots[position].add(key, weight);
+    }
+
+    synchronized List<PopularMenu> top(final int size) {
+        final long oldestSlotIndex = currentSlotIndex() - slots.length + 1;
+        final Map<Long, PopularMenu> merged = new HashMap<>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slotIndexes[i] >= oldestSlotIndex) {
+                slots[i].mergeInto(merged);
+            }
+        }
+        for (int i = 0; i < slots.length; i++) {
+            if (slotIndexes[i] >= oldestSlotIndex) {
+                slots[i].boundAbsentInto(merged);
+            }
+        }
+        return SpaceSavingSketch.top(merged, size);
+    }
+
+    private long currentSlotIndex() {
+        final Instant now = clock.instant();
+        final long localEpochSecond = now.getEpochSecond()
+                + clock.getZone().getRules().getOffset(now).getTotalSeconds();
+        return localEpochSecond / slotSeconds;
+    }
+}
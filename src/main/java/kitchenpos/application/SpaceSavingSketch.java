@@ -0,0 +1,101 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.PopularMenu;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Space-Saving heavy hitters summary; a count over-estimates by at most its {@code error}.
+ */
+class SpaceSavingSketch {
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+
+    SpaceSavingSketch(final int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void add(final Long key, final long weight) {
+        final Counter counter = counters.get(key);
+        if (Objects.nonNull(counter)) {
+            counter.count += weight;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, weight, 0));
+            return;
+        }
+
+        final Counter minimum = minimum();
+        counters.remove(minimum.key);
+        counters.put(key, new Counter(key, minimum.count + weight, minimum.count));
+    }
+
+    void mergeInto(final Map<Long, PopularMenu> merged) {
+        for (final Counter counter : counters.values()) {
+            final PopularMenu popularMenu = merged.computeIfAbsent(counter.key, key -> {
+                final PopularMenu created = new PopularMenu();
+                created.setMenuId(key);
+                return created;
+            });
+            popularMenu.setCount(popularMenu.getCount() + counter.count);
+            popularMenu.setError(popularMenu.getError() + counter.error);
+        }
+    }
+
+    void boundAbsentInto(final Map<Long, PopularMenu> merged) {
+        if (counters.size() < capacity) {
+            return;
+        }
+
+        final long minimumCount = minimum().count;
+        for (final PopularMenu popularMenu : merged.values()) {
+            if (!counters.containsKey(popularMenu.getMenuId())) {
+                popularMenu.setCount(popularMenu.getCount() + minimumCount);
+                popularMenu.setError(popularMenu.getError() + minimumCount);
+            }
+        }
+    }
+
+    void clear() {
+        counters.clear();
+    }
+
+    static List<PopularMenu> top(final Map<Long, PopularMenu> merged, final int size) {
+        return merged.values().stream()
+                .sorted(Comparator.comparingLong(PopularMenu::getCount).reversed()
+                        .thenComparing(PopularMenu::getMenuId))
+                .limit(size)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Counter minimum() {
+        Counter minimum = null;
+        for (final Counter counter : counters.values()) {
+            if (Objects.isNull(minimum) || counter.count < minimum.count) {
+                minimum = counter;
+            }
+        }
+        return minimum;
+    }
+
+    private static class Counter {
+        private final Long key;
+        private long count;
+        private final long error;
+
+        private Counter(final Long key, final long count, final long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
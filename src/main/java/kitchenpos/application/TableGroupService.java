@@ -6,6 +6,9 @@ import kitchenpos.dao.TableGroupDao;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.TableGroup;
+import kitchenpos.domain.TableGroupCreatedEvent;
+import kitchenpos.domain.TableGroupUngroupedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -21,11 +24,18 @@ public class TableGroupService {
     private final OrderDao orderDao;
     private final OrderTableDao orderTableDao;
     private final TableGroupDao tableGroupDao;
-
-    public TableGroupService(final OrderDao orderDao, final OrderTableDao orderTableDao, final TableGroupDao tableGroupDao) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TableGroupService(
+            final OrderDao orderDao,
+            final OrderTableDao orderTableDao,
+            final TableGroupDao tableGroupDao,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.orderDao = orderDao;
         this.orderTableDao = orderTableDao;
         this.tableGroupDao = tableGroupDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -63,6 +73,7 @@ public class TableGroupService {
             orderTableDao.save(savedOrderTable);
         }
         savedTableGroup.setOrderTables(savedOrderTables);
+        eventPublisher.publishEvent(new TableGroupCreatedEvent(savedTableGroup));
 
         return savedTableGroup;
     }
@@ -85,5 +96,6 @@ public class TableGroupService {
             orderTable.setEmpty(false);
             orderTableDao.save(orderTable);
         }
+        eventPublisher.publishEvent(new TableGroupUngroupedEvent(tableGroupId, orderTables));
     }
 }
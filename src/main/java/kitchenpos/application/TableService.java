@@ -4,6 +4,9 @@ import kitchenpos.dao.OrderDao;
 import kitchenpos.dao.OrderTableDao;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableChangedEvent;
+import kitchenpos.domain.OrderTableEmptiedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +18,16 @@ import java.util.Objects;
 public class TableService {
     private final OrderDao orderDao;
     private final OrderTableDao orderTableDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TableService(final OrderDao orderDao, final OrderTableDao orderTableDao) {
+    public TableService(
+            final OrderDao orderDao,
+            final OrderTableDao orderTableDao,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.orderDao = orderDao;
         this.orderTableDao = orderTableDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -26,7 +35,10 @@ public class TableService {
         orderTable.setId(null);
         orderTable.setTableGroupId(null);
 
-        return orderTableDao.save(orderTable);
+        final OrderTable savedOrderTable = orderTableDao.save(orderTable);
+        eventPublisher.publishEvent(new OrderTableChangedEvent(savedOrderTable));
+
+        return savedOrderTable;
     }
 
     public List<OrderTable> list() {
@@ -49,7 +61,14 @@ public class TableService {
 
         savedOrderTable.setEmpty(orderTable.isEmpty());
 
-        return orderTableDao.save(savedOrderTable);
+        final OrderTable changedOrderTable = orderTableDao.save(savedOrderTable);
+        eventPublisher.publishEvent(new OrderTableChangedEvent(changedOrderTable));
+
+        if (changedOrderTable.isEmpty()) {
+            eventPublisher.publishEvent(new OrderTableEmptiedEvent(orderTableId));
+        }
+
+        return changedOrderTable;
     }
 
     @Transactional
@@ -69,6 +88,9 @@ public class TableService {
 
         savedOrderTable.setNumberOfGuests(numberOfGuests);
 
-        return orderTableDao.save(savedOrderTable);
+        final OrderTable changedOrderTable = orderTableDao.save(savedOrderTable);
+        eventPublisher.publishEvent(new OrderTableChangedEvent(changedOrderTable));
+
+        return changedOrderTable;
     }
 }
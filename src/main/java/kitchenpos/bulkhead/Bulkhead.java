@@ -0,0 +1,64 @@
+package kitchenpos.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps how many request threads one class of work may hold at a time.
+ */
+public class Bulkhead {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public Bulkhead(final String name, final int maxConcurrent, final Duration maxWait) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public boolean tryEnter() throws InterruptedException {
+        if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        CURRENT.set(name);
+        return true;
+    }
+
+    public void exit() {
+        CURRENT.remove();
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
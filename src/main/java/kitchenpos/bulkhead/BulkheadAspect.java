@@ -0,0 +1,44 @@
+package kitchenpos.bulkhead;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+@Aspect
+public class BulkheadAspect {
+    private final BulkheadRegistry bulkheadRegistry;
+    private final String retryAfterSeconds;
+
+    public BulkheadAspect(final BulkheadRegistry bulkheadRegistry, final Duration retryAfter) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.getSeconds()));
+    }
+
+    @Around("execution(public org.springframework.http.ResponseEntity kitchenpos.ui.*RestController.*(..))")
+    public Object isolate(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (Bulkhead.current() != null) {
+            return joinPoint.proceed();
+        }
+
+        final Bulkhead bulkhead = bulkheadRegistry.resolve(
+                joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                joinPoint.getSignature().getName()
+        );
+        if (!bulkhead.tryEnter()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                    .build()
+                    ;
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.exit();
+        }
+    }
+}
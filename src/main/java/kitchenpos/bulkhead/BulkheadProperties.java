@@ -0,0 +1,68 @@
+package kitchenpos.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "kitchenpos.bulkhead")
+public class BulkheadProperties {
+    private String defaultBulkhead = "operations";
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+    private Map<String, String> controllers = new LinkedHashMap<>();
+
+    public String getDefaultBulkhead() {
+        return defaultBulkhead;
+    }
+
+    public void setDefaultBulkhead(final String defaultBulkhead) {
+        this.defaultBulkhead = defaultBulkhead;
+    }
+
+    public Map<String, Pool> getPools() {
+        return pools;
+    }
+
+    public void setPools(final Map<String, Pool> pools) {
+        this.pools = pools;
+    }
+
+    public Map<String, String> getControllers() {
+        return controllers;
+    }
+
+    public void setControllers(final Map<String, String> controllers) {
+        this.controllers = controllers;
+    }
+
+    public static class Pool {
+        private int maxConcurrent = 50;
+        private Duration maxWait = Duration.ZERO;
+        private int connections = 10;
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(final int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(final Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public void setConnections(final int connections) {
+            this.connections = connections;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.bulkhead;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves the bulkhead of a controller method, falling back to the default bulkhead.
+ */
+public class BulkheadRegistry {
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+    private final Map<String, Bulkhead> controllers = new HashMap<>();
+    private final Bulkhead defaultBulkhead;
+
+    public BulkheadRegistry(final BulkheadProperties properties) {
+        properties.getPools().forEach((name, pool) ->
+                bulkheads.put(name, new Bulkhead(name, pool.getMaxConcurrent(), pool.getMaxWait())));
+        if (!bulkheads.containsKey(properties.getDefaultBulkhead())) {
+            final BulkheadProperties.Pool pool = new BulkheadProperties.Pool();
+            bulkheads.put(properties.getDefaultBulkhead(), new Bulkhead(
+                    properties.getDefaultBulkhead(), pool.getMaxConcurrent(), pool.getMaxWait()));
+        }
+        this.defaultBulkhead = bulkheads.get(properties.getDefaultBulkhead());
+
+        properties.getControllers().forEach((target, name) -> {
+            final Bulkhead bulkhead = bulkheads.get(name);
+            if (bulkhead == null) {
+                throw new IllegalArgumentException();
+            }
+            controllers.put(target.toLowerCase(Locale.ROOT), bulkhead);
+        });
+    }
+
+    public Bulkhead resolve(final String controller, final String method) {
+        final String key = controller.toLowerCase(Locale.ROOT);
+        final Bulkhead bulkhead = controllers.get(key + "." + method.toLowerCase(Locale.ROOT));
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        return controllers.getOrDefault(key, defaultBulkhead);
+    }
+
+    public Bulkhead getDefaultBulkhead() {
+        return defaultBulkhead;
+    }
+
+    public Collection<Bulkhead> getBulkheads() {
+        return bulkheads.values();
+    }
+}
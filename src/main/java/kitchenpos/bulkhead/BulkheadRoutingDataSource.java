@@ -0,0 +1,13 @@
+package kitchenpos.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out connections from the pool of the current thread's bulkhead.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Bulkhead.current();
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.admission.AdmissionControlInterceptor;
+import kitchenpos.admission.AimdConcurrencyLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+    private final AimdConcurrencyLimiter orderLimiter;
+    private final AimdConcurrencyLimiter tableLimiter;
+    private final Duration retryAfter;
+
+    public AdmissionControlConfig(
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.admission.initial-limit:20}") final int initialLimit,
+            @Value("${kitchenpos.admission.min-limit:4}") final int minLimit,
+            @Value("${kitchenpos.admission.max-limit:200}") final int maxLimit,
+            @Value("${kitchenpos.admission.target-latency:PT0.25S}") final Duration targetLatency,
+            @Value("${kitchenpos.admission.backoff-ratio:0.9}") final double backoffRatio,
+            @Value("${kitchenpos.admission.retry-after:PT1S}") final Duration retryAfter
+    ) {
+        this.orderLimiter = new AimdConcurrencyLimiter(
+                "orders", initialLimit, minLimit, maxLimit, targetLatency, backoffRatio);
+        this.tableLimiter = new AimdConcurrencyLimiter(
+                "tables", initialLimit, minLimit, maxLimit, targetLatency, backoffRatio);
+        this.retryAfter = retryAfter;
+        bind(meterRegistry, orderLimiter);
+        bind(meterRegistry, tableLimiter);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(orderLimiter, retryAfter))
+                .addPathPatterns("/api/orders", "/api/orders/**", "/api/batch");
+        registry.addInterceptor(new AdmissionControlInterceptor(tableLimiter, retryAfter))
+                .addPathPatterns("/api/tables", "/api/tables/**");
+    }
+
+    private void bind(final MeterRegistry meterRegistry, final AimdConcurrencyLimiter limiter) {
+        Gauge.builder("kitchenpos.admission.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .tag("limiter", limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("kitchenpos.admission.in-flight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .tag("limiter", limiter.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder("kitchenpos.admission.rejected", limiter, AimdConcurrencyLimiter::getRejected)
+                .tag("limiter", limiter.getName())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.bulkhead.Bulkhead;
+import kitchenpos.bulkhead.BulkheadAspect;
+import kitchenpos.bulkhead.BulkheadProperties;
+import kitchenpos.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+    private final BulkheadProperties bulkheadProperties;
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadConfig(final BulkheadProperties bulkheadProperties, final MeterRegistry meterRegistry) {
+        this.bulkheadProperties = bulkheadProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        final BulkheadRegistry bulkheadRegistry = new BulkheadRegistry(bulkheadProperties);
+        for (final Bulkhead bulkhead : bulkheadRegistry.getBulkheads()) {
+            Gauge.builder("kitchenpos.bulkhead.in-use", bulkhead, Bulkhead::getInUse)
+                    .tag("bulkhead", bulkhead.getName())
+                    .register(meterRegistry);
+            Gauge.builder("kitchenpos.bulkhead.max-concurrent", bulkhead, Bulkhead::getMaxConcurrent)
+                    .tag("bulkhead", bulkhead.getName())
+                    .register(meterRegistry);
+            Gauge.builder("kitchenpos.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                    .tag("bulkhead", bulkhead.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("kitchenpos.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                    .tag("bulkhead", bulkhead.getName())
+                    .register(meterRegistry);
+        }
+        return bulkheadRegistry;
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(
+            final BulkheadRegistry bulkheadRegistry,
+            @Value("${kitchenpos.bulkhead.retry-after:PT1S}") final Duration retryAfter
+    ) {
+        return new BulkheadAspect(bulkheadRegistry, retryAfter);
+    }
+}
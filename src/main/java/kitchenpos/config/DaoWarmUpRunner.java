@@ -0,0 +1,44 @@
+package kitchenpos.config;
+
+import kitchenpos.dao.WarmableDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Warms up every DAO before the application reports ready.
+ */
+@Component
+@Profile("fast-startup")
+public class DaoWarmUpRunner implements ApplicationRunner {
+    private final List<WarmableDao> warmableDaos;
+    private final ApplicationContext applicationContext;
+    private final boolean exitAfterWarmUp;
+
+    public DaoWarmUpRunner(
+            final List<WarmableDao> warmableDaos,
+            final ApplicationContext applicationContext,
+            @Value("${kitchenpos.startup.exit-after-warm-up:false}") final boolean exitAfterWarmUp
+    ) {
+        this.warmableDaos = warmableDaos;
+        this.applicationContext = applicationContext;
+        this.exitAfterWarmUp = exitAfterWarmUp;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        for (final WarmableDao warmableDao : warmableDaos) {
+            warmableDao.warmUp();
+        }
+
+        if (exitAfterWarmUp) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.bulkhead.BulkheadProperties;
+import kitchenpos.bulkhead.BulkheadRegistry;
+import kitchenpos.replica.ReadConsistencyInterceptor;
+import kitchenpos.replica.ReplicaLagMonitor;
+import kitchenpos.replica.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig implements WebMvcConfigurer {
+    @Bean
+    public DataSourcePools dataSourcePools(
+            final DataSourceProperties dataSourceProperties,
+            final BulkheadProperties bulkheadProperties,
+            final BulkheadRegistry bulkheadRegistry,
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.replica.url:}") final String replicaUrl,
+            @Value("${kitchenpos.replica.connections:10}") final int replicaConnections,
+            @Value("${kitchenpos.replica.migrate:false}") final boolean migrateReplica
+    ) {
+        return new DataSourcePools(dataSourceProperties, bulkheadProperties, bulkheadRegistry, meterRegistry,
+                replicaUrl, replicaConnections, migrateReplica);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kitchenpos.replica", name = "url")
+    public ReplicaLagMonitor replicaLagMonitor(
+            final DataSourcePools dataSourcePools,
+            final MeterRegistry meterRegistry,
+            @Value("${kitchenpos.replica.max-staleness:#{null}}") final Duration maxStaleness
+    ) {
+        final ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                dataSourcePools.getPrimary(), dataSourcePools.getReplica(), maxStaleness);
+        replicaLagMonitor.refresh();
+        Gauge.builder("kitchenpos.replica.lag", replicaLagMonitor, ReplicaLagMonitor::getLagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return replicaLagMonitor;
+    }
+
+    @Bean
+    public DataSource dataSource(
+            final DataSourcePools dataSourcePools,
+            final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor
+    ) {
+        if (!dataSourcePools.hasReplica()) {
+            return dataSourcePools.getPrimary();
+        }
+
+        final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                dataSourcePools.getPrimary(), dataSourcePools.getReplica(), replicaLagMonitor.getObject());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadConsistencyInterceptor())
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,99 @@
+package kitchenpos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.bulkhead.Bulkhead;
+import kitchenpos.bulkhead.BulkheadProperties;
+import kitchenpos.bulkhead.BulkheadRegistry;
+import kitchenpos.bulkhead.BulkheadRoutingDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Owns the Hikari pools behind the application {@link DataSource}.
+ */
+public class DataSourcePools implements DisposableBean {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final BulkheadRoutingDataSource primary;
+    private final HikariDataSource replica;
+
+    public DataSourcePools(
+            final DataSourceProperties dataSourceProperties,
+            final BulkheadProperties bulkheadProperties,
+            final BulkheadRegistry bulkheadRegistry,
+            final MeterRegistry meterRegistry,
+            final String replicaUrl,
+            final int replicaConnections,
+            final boolean migrateReplica
+    ) {
+        final Map<Object, Object> targets = new HashMap<>();
+        for (final Bulkhead bulkhead : bulkheadRegistry.getBulkheads()) {
+            final BulkheadProperties.Pool pool = bulkheadProperties.getPools()
+                    .getOrDefault(bulkhead.getName(), new BulkheadProperties.Pool());
+            targets.put(bulkhead.getName(), pool(dataSourceProperties, null, bulkhead.getName(),
+                    pool.getConnections(), meterRegistry));
+        }
+        this.primary = new BulkheadRoutingDataSource();
+        primary.setTargetDataSources(targets);
+        primary.setDefaultTargetDataSource(targets.get(bulkheadRegistry.getDefaultBulkhead().getName()));
+        primary.afterPropertiesSet();
+
+        if (Objects.isNull(replicaUrl) || replicaUrl.isEmpty()) {
+            this.replica = null;
+            return;
+        }
+        this.replica = pool(dataSourceProperties, replicaUrl, "replica", replicaConnections, meterRegistry);
+        replica.setReadOnly(!migrateReplica);
+        if (migrateReplica) {
+            Flyway.configure()
+                    .dataSource(replica)
+                    .load()
+                    .migrate();
+        }
+    }
+
+    private HikariDataSource pool(
+            final DataSourceProperties dataSourceProperties,
+            final String url,
+            final String name,
+            final int connections,
+            final MeterRegistry meterRegistry
+    ) {
+        final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (Objects.nonNull(url)) {
+            dataSource.setJdbcUrl(url);
+        }
+        dataSource.setPoolName("kitchenpos-" + name);
+        dataSource.setMaximumPoolSize(connections);
+        dataSource.setMetricRegistry(meterRegistry);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public boolean hasReplica() {
+        return Objects.nonNull(replica);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,91 @@
+package kitchenpos.config;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuGroupDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.ProductDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.Product;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Seeds the in-memory DAOs with the same default data as
+ * {@code db/migration/V2__Insert_default_data.sql}, in the same order so the ids match.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryDataLoader implements InitializingBean {
+    private static final String[] MENU_GROUP_NAMES = {"두마리메뉴", "한마리메뉴", "순살파닭두마리메뉴", "신메뉴"};
+    private static final String[] PRODUCT_NAMES = {"후라이드", "양념치킨", "반반치킨", "통구이", "간장치킨", "순살치킨"};
+    private static final String[] MENU_NAMES = {"후라이드치킨", "양념치킨", "반반치킨", "통구이", "간장치킨", "순살치킨"};
+    private static final long[] PRICES = {16000, 16000, 16000, 16000, 17000, 17000};
+    private static final long MENU_GROUP_ID = 2L;
+    private static final int ORDER_TABLE_COUNT = 8;
+
+    private final MenuGroupDao menuGroupDao;
+    private final ProductDao productDao;
+    private final MenuDao menuDao;
+    private final MenuProductDao menuProductDao;
+    private final OrderTableDao orderTableDao;
+
+    public InMemoryDataLoader(
+            final MenuGroupDao menuGroupDao,
+            final ProductDao productDao,
+            final MenuDao menuDao,
+            final MenuProductDao menuProductDao,
+            final OrderTableDao orderTableDao
+    ) {
+        this.menuGroupDao = menuGroupDao;
+        this.productDao = productDao;
+        this.menuDao = menuDao;
+        this.menuProductDao = menuProductDao;
+        this.orderTableDao = orderTableDao;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (final String name : MENU_GROUP_NAMES) {
+            final MenuGroup menuGroup = new MenuGroup();
+            menuGroup.setName(name);
+            menuGroupDao.save(menuGroup);
+        }
+
+        for (int i = 0; i < PRODUCT_NAMES.length; i++) {
+            final Product product = new Product();
+            product.setName(PRODUCT_NAMES[i]);
+            product.setPrice(BigDecimal.valueOf(PRICES[i]));
+            productDao.save(product);
+        }
+
+        for (int i = 0; i < MENU_NAMES.length; i++) {
+            final Menu menu = new Menu();
+            menu.setName(MENU_NAMES[i]);
+            menu.setPrice(BigDecimal.valueOf(PRICES[i]));
+            menu.setMenuGroupId(MENU_GROUP_ID);
+            menuDao.save(menu);
+        }
+
+        for (long id = 1; id <= MENU_NAMES.length; id++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setMenuId(id);
+            menuProduct.setProductId(id);
+            menuProduct.setQuantity(1);
+            menuProductDao.save(menuProduct);
+        }
+
+        for (int i = 0; i < ORDER_TABLE_COUNT; i++) {
+            final OrderTable orderTable = new OrderTable();
+            orderTable.setNumberOfGuests(0);
+            orderTable.setEmpty(true);
+            orderTableDao.save(orderTable);
+        }
+    }
+}
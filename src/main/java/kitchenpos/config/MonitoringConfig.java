@@ -0,0 +1,114 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.monitoring.DaoMetricsAspect;
+import kitchenpos.monitoring.FlightRecorderAspect;
+import kitchenpos.monitoring.FlightRecordingEndpoint;
+import kitchenpos.monitoring.SqlObservingDataSource;
+import kitchenpos.monitoring.SqlStatementCounter;
+import kitchenpos.monitoring.SqlStatementListener;
+import kitchenpos.monitoring.SqlStatementMetricsInterceptor;
+import kitchenpos.monitoring.Tracer;
+import kitchenpos.monitoring.TracesEndpoint;
+import kitchenpos.monitoring.TracingAspect;
+import kitchenpos.monitoring.TracingInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+public class MonitoringConfig implements WebMvcConfigurer {
+    private final SqlStatementCounter sqlStatementCounter;
+    private final Tracer tracer;
+    private final MeterRegistry meterRegistry;
+
+    public MonitoringConfig(
+            final SqlStatementCounter sqlStatementCounter,
+            final Tracer tracer,
+            final MeterRegistry meterRegistry
+    ) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.tracer = tracer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public static Tracer tracer(
+            @Value("${kitchenpos.tracing.capacity:256}") final int capacity,
+            @Value("${kitchenpos.tracing.slow-capacity:64}") final int slowCapacity,
+            @Value("${kitchenpos.tracing.slow-threshold:PT0.5S}") final Duration slowThreshold
+    ) {
+        return new Tracer(capacity, slowCapacity, slowThreshold);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlObservingDataSourcePostProcessor(
+            final ObjectProvider<SqlStatementListener> listeners
+    ) {
+        return new BeanPostProcessor() {
+            private volatile List<SqlStatementListener> resolved;
+
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource) {
+                    return SqlObservingDataSource.wrap((DataSource) bean, this::listeners);
+                }
+                return bean;
+            }
+
+            private Iterable<SqlStatementListener> listeners() {
+                if (resolved == null) {
+                    resolved = listeners.orderedStream().collect(Collectors.toList());
+                }
+                return resolved;
+            }
+        };
+    }
+
+    @Bean
+    public DaoMetricsAspect daoMetricsAspect() {
+        return new DaoMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint() {
+        return new FlightRecordingEndpoint();
+    }
+
+    @Bean
+    public TracingAspect tracingAspect() {
+        return new TracingAspect(tracer);
+    }
+
+    @Bean
+    public TracesEndpoint tracesEndpoint() {
+        return new TracesEndpoint(tracer);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(sqlStatementCounter, meterRegistry))
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(new TracingInterceptor(tracer))
+                .addPathPatterns("/api/**");
+    }
+}
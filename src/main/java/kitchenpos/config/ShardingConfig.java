@@ -0,0 +1,99 @@
+package kitchenpos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.monitoring.SqlObservingDataSource;
+import kitchenpos.monitoring.SqlStatementListener;
+import kitchenpos.sharding.Shard;
+import kitchenpos.sharding.ShardedOrderDao;
+import kitchenpos.sharding.ShardedOrderLineItemDao;
+import kitchenpos.sharding.Shards;
+import kitchenpos.sharding.ShardingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Configuration
+@ConditionalOnProperty(prefix = "kitchenpos.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public Shards shards(
+            final ShardingProperties shardingProperties,
+            final MeterRegistry meterRegistry,
+            final ObjectProvider<SqlStatementListener> listeners
+    ) {
+        if (!shardingProperties.isAllowUnshardedSideEffects()) {
+            throw new IllegalStateException("outbox_event, running_bill and sales aggregates stay on the main "
+                    + "DataSource and are not atomic with sharded orders; "
+                    + "set kitchenpos.sharding.allow-unsharded-side-effects=true to accept this");
+        }
+
+        final Supplier<Iterable<SqlStatementListener>> resolvedListeners = resolve(listeners);
+        final List<Shard> shards = new ArrayList<>();
+        final List<ShardingProperties.ShardSettings> settings = shardingProperties.getShards();
+        for (int index = 0; index < settings.size(); index++) {
+            final ShardingProperties.ShardSettings shardSettings = settings.get(index);
+            final HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shardSettings.getUrl())
+                    .username(shardSettings.getUsername())
+                    .password(shardSettings.getPassword())
+                    .build();
+            pool.setPoolName("kitchenpos-shard-" + shardSettings.getName());
+            pool.setMaximumPoolSize(shardSettings.getConnections());
+            pool.setMetricRegistry(meterRegistry);
+            pools.add(pool);
+
+            final Shard shard = new Shard(shardSettings.getName(), index, SqlObservingDataSource.wrap(pool, resolvedListeners));
+            shard.migrate();
+            shards.add(shard);
+        }
+        return new Shards(shards, shardingProperties.getVirtualNodes(), shardingProperties.getLocationCacheSize());
+    }
+
+    @Bean
+    @Primary
+    public OrderDao shardedOrderDao(final Shards shards) {
+        return new ShardedOrderDao(shards);
+    }
+
+    @Bean
+    @Primary
+    public OrderLineItemDao shardedOrderLineItemDao(final Shards shards) {
+        return new ShardedOrderLineItemDao(shards);
+    }
+
+    private Supplier<Iterable<SqlStatementListener>> resolve(final ObjectProvider<SqlStatementListener> listeners) {
+        return new Supplier<Iterable<SqlStatementListener>>() {
+            private volatile List<SqlStatementListener> resolved;
+
+            @Override
+            public Iterable<SqlStatementListener> get() {
+                if (resolved == null) {
+                    resolved = listeners.orderedStream().collect(Collectors.toList());
+                }
+                return resolved;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
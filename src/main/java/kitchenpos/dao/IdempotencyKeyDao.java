@@ -0,0 +1,14 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.IdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyDao {
+    IdempotencyKey save(IdempotencyKey entity);
+
+    Optional<IdempotencyKey> findById(String idempotencyKey);
+
+    int deleteAllByCreatedDateBefore(LocalDateTime createdDate);
+}
@@ -0,0 +1,61 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.IdempotencyKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static kitchenpos.dao.InMemoryTable.datetime;
+import static kitchenpos.dao.InMemoryTable.notNull;
+import static kitchenpos.dao.InMemoryTable.varchar;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryIdempotencyKeyDao implements IdempotencyKeyDao {
+    private final InMemoryTable<String, IdempotencyKey> table =
+            new InMemoryTable<>("idempotency_key", InMemoryIdempotencyKeyDao::copyOf);
+
+    @Override
+    public IdempotencyKey save(final IdempotencyKey entity) {
+        final IdempotencyKey row = new IdempotencyKey();
+        row.setIdempotencyKey(varchar(entity.getIdempotencyKey(), "IDEMPOTENCY_KEY"));
+        row.setRequestHash(varchar(entity.getRequestHash(), "REQUEST_HASH"));
+        row.setResponseBody(notNull(entity.getResponseBody(), "RESPONSE_BODY"));
+        row.setCreatedDate(datetime(entity.getCreatedDate(), "CREATED_DATE"));
+        table.insert(row.getIdempotencyKey(), row);
+        return row;
+    }
+
+    @Override
+    public Optional<IdempotencyKey> findById(final String idempotencyKey) {
+        return table.find(idempotencyKey);
+    }
+
+    @Override
+    public int deleteAllByCreatedDateBefore(final LocalDateTime createdDate) {
+        final List<String> expiredKeys = table.scan()
+                .filter(row -> row.getCreatedDate().isBefore(createdDate))
+                .map(IdempotencyKey::getIdempotencyKey)
+                .collect(Collectors.toList());
+        int deleted = 0;
+        for (final String expiredKey : expiredKeys) {
+            if (table.delete(expiredKey)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static IdempotencyKey copyOf(final IdempotencyKey row) {
+        final IdempotencyKey entity = new IdempotencyKey();
+        entity.setIdempotencyKey(row.getIdempotencyKey());
+        entity.setRequestHash(row.getRequestHash());
+        entity.setResponseBody(row.getResponseBody());
+        entity.setCreatedDate(row.getCreatedDate());
+        return entity;
+    }
+}
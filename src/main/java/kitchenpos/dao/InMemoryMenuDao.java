@@ -0,0 +1,109 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Menu;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static kitchenpos.dao.InMemoryTable.decimal;
+import static kitchenpos.dao.InMemoryTable.notNull;
+import static kitchenpos.dao.InMemoryTable.varchar;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryMenuDao implements MenuDao {
+    private final InMemoryTable<Long, Menu> table = new InMemoryTable<>("menu", InMemoryMenuDao::copyOf);
+    private final InMemoryMenuGroupDao menuGroupDao;
+    private final ObjectProvider<InMemoryMenuProductDao> menuProductDao;
+
+    public InMemoryMenuDao(
+            final InMemoryMenuGroupDao menuGroupDao,
+            final ObjectProvider<InMemoryMenuProductDao> menuProductDao
+    ) {
+        this.menuGroupDao = menuGroupDao;
+        this.menuProductDao = menuProductDao;
+    }
+
+    @Override
+    public Menu save(final Menu entity) {
+        final Menu row = new Menu();
+        row.setName(varchar(entity.getName(), "NAME"));
+        row.setPrice(decimal(entity.getPrice(), "PRICE"));
+        row.setMenuGroupId(notNull(entity.getMenuGroupId(), "MENU_GROUP_ID"));
+        menuGroupDao.references(row.getMenuGroupId(), "FK_MENU_MENU_GROUP");
+        row.setId(table.nextId());
+        table.insert(row.getId(), row);
+        return row;
+    }
+
+    @Override
+    public Optional<Menu> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<Menu> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public void findAllWithMenuProducts(final Consumer<Menu> action) {
+        findAll(FIELDS, action);
+    }
+
+    @Override
+    public void findAll(final Collection<String> fields, final Consumer<Menu> action) {
+        final InMemoryMenuProductDao menuProducts = menuProductDao.getObject();
+        table.scan()
+                .map(row -> project(row, fields))
+                .forEach(menu -> {
+                    if (fields.contains(MENU_PRODUCTS)) {
+                        menu.setMenuProducts(menuProducts.findAllByMenuId(menu.getId()));
+                    }
+                    action.accept(menu);
+                });
+    }
+
+    @Override
+    public List<Menu> findAllByIdIn(final List<Long> ids) {
+        return table.findAllByKeyIn(ids);
+    }
+
+    @Override
+    public long countByIdIn(final List<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(table::contains)
+                .count();
+    }
+
+    void references(final Long id, final String constraint) {
+        table.references(id, constraint);
+    }
+
+    private static Menu project(final Menu row, final Collection<String> fields) {
+        final Menu entity = new Menu();
+        entity.setId(row.getId());
+        if (fields.contains("name")) {
+            entity.setName(row.getName());
+        }
+        if (fields.contains("price")) {
+            entity.setPrice(row.getPrice());
+        }
+        if (fields.contains("menuGroupId")) {
+            entity.setMenuGroupId(row.getMenuGroupId());
+        }
+        return entity;
+    }
+
+    private static Menu copyOf(final Menu row) {
+        return project(row, FIELDS);
+    }
+}
@@ -0,0 +1,51 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuGroup;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kitchenpos.dao.InMemoryTable.varchar;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryMenuGroupDao implements MenuGroupDao {
+    private final InMemoryTable<Long, MenuGroup> table = new InMemoryTable<>("menu_group", InMemoryMenuGroupDao::copyOf);
+
+    @Override
+    public MenuGroup save(final MenuGroup entity) {
+        final MenuGroup row = new MenuGroup();
+        row.setName(varchar(entity.getName(), "NAME"));
+        row.setId(table.nextId());
+        table.insert(row.getId(), row);
+        return row;
+    }
+
+    @Override
+    public Optional<MenuGroup> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<MenuGroup> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public boolean existsById(final Long id) {
+        return table.contains(id);
+    }
+
+    void references(final Long id, final String constraint) {
+        table.references(id, constraint);
+    }
+
+    private static MenuGroup copyOf(final MenuGroup row) {
+        final MenuGroup entity = new MenuGroup();
+        entity.setId(row.getId());
+        entity.setName(row.getName());
+        return entity;
+    }
+}
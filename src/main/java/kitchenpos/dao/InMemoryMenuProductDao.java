@@ -0,0 +1,61 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.MenuProduct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kitchenpos.dao.InMemoryTable.notNull;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryMenuProductDao implements MenuProductDao {
+    private final InMemoryTable<Long, MenuProduct> table =
+            new InMemoryTable<>("menu_product", InMemoryMenuProductDao::copyOf, MenuProduct::getMenuId);
+    private final InMemoryMenuDao menuDao;
+    private final InMemoryProductDao productDao;
+
+    public InMemoryMenuProductDao(final InMemoryMenuDao menuDao, final InMemoryProductDao productDao) {
+        this.menuDao = menuDao;
+        this.productDao = productDao;
+    }
+
+    @Override
+    public MenuProduct save(final MenuProduct entity) {
+        final MenuProduct row = new MenuProduct();
+        row.setMenuId(notNull(entity.getMenuId(), "MENU_ID"));
+        row.setProductId(notNull(entity.getProductId(), "PRODUCT_ID"));
+        row.setQuantity(entity.getQuantity());
+        menuDao.references(row.getMenuId(), "FK_MENU_PRODUCT_MENU");
+        productDao.references(row.getProductId(), "FK_MENU_PRODUCT_PRODUCT");
+        row.setSeq(table.nextId());
+        table.insert(row.getSeq(), row);
+        return row;
+    }
+
+    @Override
+    public Optional<MenuProduct> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<MenuProduct> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public List<MenuProduct> findAllByMenuId(final Long menuId) {
+        return table.findAllByIndexKey(menuId);
+    }
+
+    private static MenuProduct copyOf(final MenuProduct row) {
+        final MenuProduct entity = new MenuProduct();
+        entity.setSeq(row.getSeq());
+        entity.setMenuId(row.getMenuId());
+        entity.setProductId(row.getProductId());
+        entity.setQuantity(row.getQuantity());
+        return entity;
+    }
+}
@@ -0,0 +1,135 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Order;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static kitchenpos.dao.InMemoryTable.datetime;
+import static kitchenpos.dao.InMemoryTable.notNull;
+import static kitchenpos.dao.InMemoryTable.varchar;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryOrderDao implements OrderDao {
+    private final InMemoryTable<Long, Order> table =
+            new InMemoryTable<>("orders", InMemoryOrderDao::copyOf, Order::getOrderTableId);
+    private final InMemoryOrderTableDao orderTableDao;
+    private final ObjectProvider<InMemoryOrderLineItemDao> orderLineItemDao;
+
+    public InMemoryOrderDao(
+            final InMemoryOrderTableDao orderTableDao,
+            final ObjectProvider<InMemoryOrderLineItemDao> orderLineItemDao
+    ) {
+        this.orderTableDao = orderTableDao;
+        this.orderLineItemDao = orderLineItemDao;
+    }
+
+    @Override
+    public Order save(final Order entity) {
+        if (Objects.isNull(entity.getId())) {
+            return insert(entity);
+        }
+        table.update(entity.getId(), row -> {
+            row.setOrderStatus(varchar(entity.getOrderStatus(), "ORDER_STATUS"));
+            return row;
+        });
+        return entity;
+    }
+
+    @Override
+    public List<Order> saveAll(final List<Order> entities) {
+        for (final Order entity : entities) {
+            entity.setId(insert(entity).getId());
+        }
+        return entities;
+    }
+
+    @Override
+    public Optional<Order> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public void findAllWithOrderLineItems(final Consumer<Order> action) {
+        findAll(FIELDS, action);
+    }
+
+    @Override
+    public void findAll(final Collection<String> fields, final Consumer<Order> action) {
+        final InMemoryOrderLineItemDao orderLineItems = orderLineItemDao.getObject();
+        table.scan()
+                .map(row -> project(row, fields))
+                .forEach(order -> {
+                    if (fields.contains(ORDER_LINE_ITEMS)) {
+                        order.setOrderLineItems(orderLineItems.findAllByOrderId(order.getId()));
+                    }
+                    action.accept(order);
+                });
+    }
+
+    @Override
+    public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<String> orderStatuses) {
+        return existsByOrderTableIdInAndOrderStatusIn(Collections.singletonList(orderTableId), orderStatuses);
+    }
+
+    @Override
+    public boolean existsByOrderTableIdInAndOrderStatusIn(final List<Long> orderTableIds, final List<String> orderStatuses) {
+        return table.scanByIndexKeyIn(orderTableIds)
+                .anyMatch(row -> orderStatuses.contains(row.getOrderStatus()));
+    }
+
+    List<Long> findAllIdsByOrderStatus(final String orderStatus) {
+        return table.scan()
+                .filter(row -> row.getOrderStatus().equals(orderStatus))
+                .map(Order::getId)
+                .collect(Collectors.toList());
+    }
+
+    void references(final Long id, final String constraint) {
+        table.references(id, constraint);
+    }
+
+    private Order insert(final Order entity) {
+        final Order row = new Order();
+        row.setOrderTableId(notNull(entity.getOrderTableId(), "ORDER_TABLE_ID"));
+        row.setOrderStatus(varchar(entity.getOrderStatus(), "ORDER_STATUS"));
+        row.setOrderedTime(datetime(entity.getOrderedTime(), "ORDERED_TIME"));
+        orderTableDao.references(row.getOrderTableId(), "FK_ORDERS_ORDER_TABLE");
+        row.setId(table.nextId());
+        table.insert(row.getId(), row);
+        return row;
+    }
+
+    private static Order project(final Order row, final Collection<String> fields) {
+        final Order entity = new Order();
+        entity.setId(row.getId());
+        if (fields.contains("orderTableId")) {
+            entity.setOrderTableId(row.getOrderTableId());
+        }
+        if (fields.contains("orderStatus")) {
+            entity.setOrderStatus(row.getOrderStatus());
+        }
+        if (fields.contains("orderedTime")) {
+            entity.setOrderedTime(row.getOrderedTime());
+        }
+        return entity;
+    }
+
+    private static Order copyOf(final Order row) {
+        return project(row, FIELDS);
+    }
+}
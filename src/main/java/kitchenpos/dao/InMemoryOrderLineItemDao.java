@@ -0,0 +1,90 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.PrepItem;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static kitchenpos.dao.InMemoryTable.notNull;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryOrderLineItemDao implements OrderLineItemDao {
+    private final InMemoryTable<Long, OrderLineItem> table =
+            new InMemoryTable<>("order_line_item", InMemoryOrderLineItemDao::copyOf, OrderLineItem::getOrderId);
+    private final InMemoryOrderDao orderDao;
+    private final InMemoryMenuDao menuDao;
+
+    public InMemoryOrderLineItemDao(final InMemoryOrderDao orderDao, final InMemoryMenuDao menuDao) {
+        this.orderDao = orderDao;
+        this.menuDao = menuDao;
+    }
+
+    @Override
+    public OrderLineItem save(final OrderLineItem entity) {
+        final OrderLineItem row = new OrderLineItem();
+        row.setOrderId(notNull(entity.getOrderId(), "ORDER_ID"));
+        row.setMenuId(notNull(entity.getMenuId(), "MENU_ID"));
+        row.setQuantity(entity.getQuantity());
+        orderDao.references(row.getOrderId(), "FK_ORDER_LINE_ITEM_ORDERS");
+        menuDao.references(row.getMenuId(), "FK_ORDER_LINE_ITEM_MENU");
+        row.setSeq(table.nextId());
+        table.insert(row.getSeq(), row);
+        return row;
+    }
+
+    @Override
+    public void saveAll(final List<OrderLineItem> entities) {
+        entities.forEach(this::save);
+    }
+
+    @Override
+    public Optional<OrderLineItem> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<OrderLineItem> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public List<OrderLineItem> findAllByOrderId(final Long orderId) {
+        return table.findAllByIndexKey(orderId);
+    }
+
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        return table.findAllByIndexKeyIn(orderIds);
+    }
+
+    @Override
+    public List<PrepItem> sumQuantityGroupByMenuIdByOrderStatus(final String orderStatus) {
+        final Map<Long, Long> quantities = table.scanByIndexKeyIn(orderDao.findAllIdsByOrderStatus(orderStatus))
+                .collect(Collectors.groupingBy(OrderLineItem::getMenuId, TreeMap::new,
+                        Collectors.summingLong(OrderLineItem::getQuantity)));
+        return quantities.entrySet().stream()
+                .map(entry -> {
+                    final PrepItem prepItem = new PrepItem();
+                    prepItem.setMenuId(entry.getKey());
+                    prepItem.setQuantity(entry.getValue());
+                    return prepItem;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static OrderLineItem copyOf(final OrderLineItem row) {
+        final OrderLineItem entity = new OrderLineItem();
+        entity.setSeq(row.getSeq());
+        entity.setOrderId(row.getOrderId());
+        entity.setMenuId(row.getMenuId());
+        entity.setQuantity(row.getQuantity());
+        return entity;
+    }
+}
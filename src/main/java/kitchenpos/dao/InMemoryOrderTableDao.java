@@ -0,0 +1,81 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OrderTable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryOrderTableDao implements OrderTableDao {
+    private final InMemoryTable<Long, OrderTable> table =
+            new InMemoryTable<>("order_table", InMemoryOrderTableDao::copyOf, OrderTable::getTableGroupId);
+    private final InMemoryTableGroupDao tableGroupDao;
+
+    public InMemoryOrderTableDao(final InMemoryTableGroupDao tableGroupDao) {
+        this.tableGroupDao = tableGroupDao;
+    }
+
+    @Override
+    public OrderTable save(final OrderTable entity) {
+        if (Objects.isNull(entity.getId())) {
+            tableGroupDao.references(entity.getTableGroupId(), "FK_ORDER_TABLE_TABLE_GROUP");
+            final OrderTable row = copyOf(entity);
+            row.setId(table.nextId());
+            table.insert(row.getId(), row);
+            return row;
+        }
+        table.update(entity.getId(), row -> {
+            tableGroupDao.references(entity.getTableGroupId(), "FK_ORDER_TABLE_TABLE_GROUP");
+            row.setTableGroupId(entity.getTableGroupId());
+            row.setNumberOfGuests(entity.getNumberOfGuests());
+            row.setEmpty(entity.isEmpty());
+            return row;
+        });
+        return entity;
+    }
+
+    @Override
+    public Optional<OrderTable> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<OrderTable> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public List<OrderTable> findAllByIdIn(final List<Long> ids) {
+        return table.findAllByKeyIn(ids);
+    }
+
+    @Override
+    public List<OrderTable> findAllByTableGroupId(final Long tableGroupId) {
+        return table.findAllByIndexKey(tableGroupId);
+    }
+
+    List<Long> findAllIdsByTableGroupId(final Long tableGroupId) {
+        return table.scanByIndexKeyIn(Collections.singletonList(tableGroupId))
+                .map(OrderTable::getId)
+                .collect(Collectors.toList());
+    }
+
+    void references(final Long id, final String constraint) {
+        table.references(id, constraint);
+    }
+
+    private static OrderTable copyOf(final OrderTable row) {
+        final OrderTable entity = new OrderTable();
+        entity.setId(row.getId());
+        entity.setTableGroupId(row.getTableGroupId());
+        entity.setNumberOfGuests(row.getNumberOfGuests());
+        entity.setEmpty(row.isEmpty());
+        return entity;
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OutboxEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static kitchenpos.dao.InMemoryTable.datetime;
+import static kitchenpos.dao.InMemoryTable.notNull;
+import static kitchenpos.dao.InMemoryTable.varchar;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryOutboxEventDao implements OutboxEventDao {
+    private final InMemoryTable<Long, OutboxEvent> table = new InMemoryTable<>("outbox_event", InMemoryOutboxEventDao::copyOf);
+
+    @Override
+    public OutboxEvent save(final OutboxEvent entity) {
+        final OutboxEvent row = new OutboxEvent();
+        row.setAggregateType(varchar(entity.getAggregateType(), "AGGREGATE_TYPE"));
+        row.setAggregateId(notNull(entity.getAggregateId(), "AGGREGATE_ID"));
+        row.setEventType(varchar(entity.getEventType(), "EVENT_TYPE"));
+        row.setPayload(notNull(entity.getPayload(), "PAYLOAD"));
+        row.setCreatedDate(datetime(entity.getCreatedDate(), "CREATED_DATE"));
+        row.setId(table.nextId());
+        table.insert(row.getId(), row);
+        entity.setId(row.getId());
+        return entity;
+    }
+
+    @Override
+    public List<OutboxEvent> findFirstOrderById(final int limit) {
+        return table.findFirst(limit);
+    }
+
+    @Override
+    public long count() {
+        return table.size();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findMinCreatedDate() {
+        return table.scan()
+                .map(OutboxEvent::getCreatedDate)
+                .min(Comparator.naturalOrder());
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<Long> ids) {
+        ids.forEach(table::delete);
+    }
+
+    private static OutboxEvent copyOf(final OutboxEvent row) {
+        final OutboxEvent entity = new OutboxEvent();
+        entity.setId(row.getId());
+        entity.setAggregateType(row.getAggregateType());
+        entity.setAggregateId(row.getAggregateId());
+        entity.setEventType(row.getEventType());
+        entity.setPayload(row.getPayload());
+        entity.setCreatedDate(row.getCreatedDate());
+        return entity;
+    }
+}
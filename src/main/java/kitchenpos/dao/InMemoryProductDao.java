@@ -0,0 +1,49 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.Product;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kitchenpos.dao.InMemoryTable.decimal;
+import static kitchenpos.dao.InMemoryTable.varchar;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryProductDao implements ProductDao {
+    private final InMemoryTable<Long, Product> table = new InMemoryTable<>("product", InMemoryProductDao::copyOf);
+
+    @Override
+    public Product save(final Product entity) {
+        final Product row = new Product();
+        row.setName(varchar(entity.getName(), "NAME"));
+        row.setPrice(decimal(entity.getPrice(), "PRICE"));
+        row.setId(table.nextId());
+        table.insert(row.getId(), row);
+        return row;
+    }
+
+    @Override
+    public Optional<Product> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return table.findAll();
+    }
+
+    void references(final Long id, final String constraint) {
+        table.references(id, constraint);
+    }
+
+    private static Product copyOf(final Product row) {
+        final Product entity = new Product();
+        entity.setId(row.getId());
+        entity.setName(row.getName());
+        entity.setPrice(row.getPrice());
+        return entity;
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.RunningBill;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static kitchenpos.dao.InMemoryTable.decimal;
+import static kitchenpos.dao.InMemoryTable.notNull;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryRunningBillDao implements RunningBillDao {
+    private final InMemoryTable<Long, RunningBill> table = new InMemoryTable<>("running_bill", InMemoryRunningBillDao::copyOf);
+    private final InMemoryOrderTableDao orderTableDao;
+
+    public InMemoryRunningBillDao(final InMemoryOrderTableDao orderTableDao) {
+        this.orderTableDao = orderTableDao;
+    }
+
+    @Override
+    public void add(final Long orderTableId, final BigDecimal amount, final long orderCount, final long openOrderCount) {
+        notNull(orderTableId, "ORDER_TABLE_ID");
+        table.merge(orderTableId, () -> {
+            orderTableDao.references(orderTableId, "FK_RUNNING_BILL_ORDER_TABLE");
+            final RunningBill row = new RunningBill();
+            row.setOrderTableId(orderTableId);
+            row.setAmount(decimal(amount, "AMOUNT"));
+            row.setOrderCount(orderCount);
+            row.setOpenOrderCount(openOrderCount);
+            return row;
+        }, row -> {
+            row.setAmount(decimal(row.getAmount().add(notNull(amount, "AMOUNT")), "AMOUNT"));
+            row.setOrderCount(row.getOrderCount() + orderCount);
+            row.setOpenOrderCount(row.getOpenOrderCount() + openOrderCount);
+            return row;
+        });
+    }
+
+    @Override
+    public void deleteById(final Long orderTableId) {
+        table.delete(orderTableId);
+    }
+
+    @Override
+    public Optional<RunningBill> findById(final Long orderTableId) {
+        return table.find(orderTableId);
+    }
+
+    @Override
+    public List<RunningBill> findAllByTableGroupId(final Long tableGroupId) {
+        return table.findAllByKeyIn(orderTableDao.findAllIdsByTableGroupId(tableGroupId));
+    }
+
+    private static RunningBill copyOf(final RunningBill row) {
+        final RunningBill entity = new RunningBill();
+        entity.setOrderTableId(row.getOrderTableId());
+        entity.setAmount(row.getAmount());
+        entity.setOrderCount(row.getOrderCount());
+        entity.setOpenOrderCount(row.getOpenOrderCount());
+        return entity;
+    }
+}
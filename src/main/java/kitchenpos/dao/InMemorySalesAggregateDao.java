@@ -0,0 +1,130 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static kitchenpos.dao.InMemoryTable.datetime;
+import static kitchenpos.dao.InMemoryTable.decimal;
+import static kitchenpos.dao.InMemoryTable.notNull;
+
+@Repository
+@Profile("in-memory")
+public class InMemorySalesAggregateDao implements SalesAggregateDao {
+    private final InMemoryTable<Long, MenuSales> menuSales =
+            new InMemoryTable<>("menu_sales", InMemorySalesAggregateDao::copyOf);
+    private final InMemoryTable<Long, MenuGroupSales> menuGroupSales =
+            new InMemoryTable<>("menu_group_sales", InMemorySalesAggregateDao::copyOf);
+    private final InMemoryTable<LocalDateTime, HourlySales> hourlySales =
+            new InMemoryTable<>("hourly_sales", InMemorySalesAggregateDao::copyOf);
+    private final InMemoryMenuDao menuDao;
+    private final InMemoryMenuGroupDao menuGroupDao;
+
+    public InMemorySalesAggregateDao(final InMemoryMenuDao menuDao, final InMemoryMenuGroupDao menuGroupDao) {
+        this.menuDao = menuDao;
+        this.menuGroupDao = menuGroupDao;
+    }
+
+    @Override
+    public void addMenuSales(final Long menuId, final long quantity, final BigDecimal revenue) {
+        notNull(menuId, "MENU_ID");
+        menuSales.merge(menuId, () -> {
+            menuDao.references(menuId, "FK_MENU_SALES_MENU");
+            final MenuSales row = new MenuSales();
+            row.setMenuId(menuId);
+            row.setQuantity(quantity);
+            row.setRevenue(decimal(revenue, "REVENUE"));
+            return row;
+        }, row -> {
+            row.setQuantity(row.getQuantity() + quantity);
+            row.setRevenue(decimal(row.getRevenue().add(notNull(revenue, "REVENUE")), "REVENUE"));
+            return row;
+        });
+    }
+
+    @Override
+    public void addMenuGroupSales(final Long menuGroupId, final long quantity, final BigDecimal revenue) {
+        notNull(menuGroupId, "MENU_GROUP_ID");
+        menuGroupSales.merge(menuGroupId, () -> {
+            menuGroupDao.references(menuGroupId, "FK_MENU_GROUP_SALES_MENU_GROUP");
+            final MenuGroupSales row = new MenuGroupSales();
+            row.setMenuGroupId(menuGroupId);
+            row.setQuantity(quantity);
+            row.setRevenue(decimal(revenue, "REVENUE"));
+            return row;
+        }, row -> {
+            row.setQuantity(row.getQuantity() + quantity);
+            row.setRevenue(decimal(row.getRevenue().add(notNull(revenue, "REVENUE")), "REVENUE"));
+            return row;
+        });
+    }
+
+    @Override
+    public void addHourlySales(
+            final LocalDateTime hourBucket,
+            final long orderCount,
+            final long quantity,
+            final BigDecimal revenue
+    ) {
+        final LocalDateTime key = datetime(hourBucket, "HOUR_BUCKET");
+        hourlySales.merge(key, () -> {
+            final HourlySales row = new HourlySales();
+            row.setHourBucket(key);
+            row.setOrderCount(orderCount);
+            row.setQuantity(quantity);
+            row.setRevenue(decimal(revenue, "REVENUE"));
+            return row;
+        }, row -> {
+            row.setOrderCount(row.getOrderCount() + orderCount);
+            row.setQuantity(row.getQuantity() + quantity);
+            row.setRevenue(decimal(row.getRevenue().add(notNull(revenue, "REVENUE")), "REVENUE"));
+            return row;
+        });
+    }
+
+    @Override
+    public List<MenuSales> findAllMenuSales() {
+        return menuSales.findAll();
+    }
+
+    @Override
+    public List<MenuGroupSales> findAllMenuGroupSales() {
+        return menuGroupSales.findAll();
+    }
+
+    @Override
+    public List<HourlySales> findAllHourlySalesByHourBucketBetween(final LocalDateTime from, final LocalDateTime to) {
+        return hourlySales.findAllByKeyBetween(from, to);
+    }
+
+    private static MenuSales copyOf(final MenuSales row) {
+        final MenuSales entity = new MenuSales();
+        entity.setMenuId(row.getMenuId());
+        entity.setQuantity(row.getQuantity());
+        entity.setRevenue(row.getRevenue());
+        return entity;
+    }
+
+    private static MenuGroupSales copyOf(final MenuGroupSales row) {
+        final MenuGroupSales entity = new MenuGroupSales();
+        entity.setMenuGroupId(row.getMenuGroupId());
+        entity.setQuantity(row.getQuantity());
+        entity.setRevenue(row.getRevenue());
+        return entity;
+    }
+
+    private static HourlySales copyOf(final HourlySales row) {
+        final HourlySales entity = new HourlySales();
+        entity.setHourBucket(row.getHourBucket());
+        entity.setOrderCount(row.getOrderCount());
+        entity.setQuantity(row.getQuantity());
+        entity.setRevenue(row.getRevenue());
+        return entity;
+    }
+}
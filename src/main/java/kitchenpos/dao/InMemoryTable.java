@@ -0,0 +1,234 @@
+package kitchenpos.dao;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * One table of the in-memory DAO backend, kept in primary key order.
+ */
+final class InMemoryTable<K extends Comparable<? super K>, E> {
+    private static final int VARCHAR_LENGTH = 255;
+    private static final int DECIMAL_PRECISION = 19;
+    private static final int DECIMAL_SCALE = 2;
+
+    private final String name;
+    private final UnaryOperator<E> copier;
+    private final Function<E, Long> indexKey;
+    private final ConcurrentNavigableMap<K, E> rows = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Long, NavigableSet<K>> index = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    InMemoryTable(final String name, final UnaryOperator<E> copier) {
+        this(name, copier, entity -> null);
+    }
+
+    InMemoryTable(final String name, final UnaryOperator<E> copier, final Function<E, Long> indexKey) {
+        this.name = name;
+        this.copier = copier;
+        this.indexKey = indexKey;
+    }
+
+    long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    void insert(final K key, final E entity) {
+        final E row = copier.apply(entity);
+        synchronized (this) {
+            if (rows.containsKey(key)) {
+                throw new DuplicateKeyException("Unique index or primary key violation: " + name + " " + key);
+            }
+            restore(key, row);
+        }
+        InMemoryUndoLog.record(() -> restore(key, null));
+    }
+
+    boolean update(final K key, final UnaryOperator<E> change) {
+        if (Objects.isNull(key)) {
+            return false;
+        }
+        final E previous;
+        synchronized (this) {
+            previous = rows.get(key);
+            if (Objects.isNull(previous)) {
+                return false;
+            }
+            restore(key, change.apply(copier.apply(previous)));
+        }
+        InMemoryUndoLog.record(() -> restore(key, previous));
+        return true;
+    }
+
+    void merge(final K key, final Supplier<E> initial, final UnaryOperator<E> change) {
+        final E previous;
+        synchronized (this) {
+            previous = rows.get(key);
+            restore(key, Objects.isNull(previous) ? initial.get() : change.apply(copier.apply(previous)));
+        }
+        InMemoryUndoLog.record(() -> restore(key, previous));
+    }
+
+    boolean delete(final K key) {
+        if (Objects.isNull(key)) {
+            return false;
+        }
+        final E previous;
+        synchronized (this) {
+            previous = rows.get(key);
+            if (Objects.isNull(previous)) {
+                return false;
+            }
+            restore(key, null);
+        }
+        InMemoryUndoLog.record(() -> restore(key, previous));
+        return true;
+    }
+
+    Optional<E> find(final K key) {
+        if (Objects.isNull(key)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(rows.get(key))
+                .map(copier);
+    }
+
+    boolean contains(final K key) {
+        return Objects.nonNull(key) && rows.containsKey(key);
+    }
+
+    List<E> findAll() {
+        return copyAll(rows.values().stream());
+    }
+
+    List<E> findAllByKeyIn(final Collection<K> keys) {
+        return copyAll(distinct(keys).stream()
+                .map(rows::get)
+                .filter(Objects::nonNull));
+    }
+
+    List<E> findFirst(final int limit) {
+        return copyAll(rows.values().stream()
+                .limit(limit));
+    }
+
+    List<E> findAllByKeyBetween(final K from, final K to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.compareTo(to) >= 0) {
+            return Collections.emptyList();
+        }
+        return copyAll(rows.subMap(from, true, to, false).values().stream());
+    }
+
+    List<E> findAllByIndexKey(final Long key) {
+        return findAllByIndexKeyIn(Collections.singletonList(key));
+    }
+
+    List<E> findAllByIndexKeyIn(final Collection<Long> keys) {
+        return copyAll(scanByIndexKeyIn(keys));
+    }
+
+    /**
+     * Streams the stored rows themselves for aggregate queries; callers must not modify them.
+     */
+    Stream<E> scan() {
+        return rows.values().stream();
+    }
+
+    Stream<E> scanByIndexKeyIn(final Collection<Long> keys) {
+        return distinct(keys).stream()
+                .map(index::get)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(rows::get)
+                .filter(Objects::nonNull);
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    void references(final K key, final String constraint) {
+        if (Objects.nonNull(key) && !rows.containsKey(key)) {
+            throw new DataIntegrityViolationException("Referential integrity constraint violation: " + constraint);
+        }
+    }
+
+    private synchronized void restore(final K key, final E row) {
+        final E previous = Objects.isNull(row) ? rows.remove(key) : rows.put(key, row);
+        if (Objects.nonNull(previous)) {
+            final Long previousIndexKey = indexKey.apply(previous);
+            if (Objects.nonNull(previousIndexKey)) {
+                index.computeIfPresent(previousIndexKey, (indexed, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        }
+        if (Objects.nonNull(row)) {
+            final Long rowIndexKey = indexKey.apply(row);
+            if (Objects.nonNull(rowIndexKey)) {
+                index.computeIfAbsent(rowIndexKey, indexed -> new ConcurrentSkipListSet<>())
+                        .add(key);
+            }
+        }
+    }
+
+    private List<E> copyAll(final Stream<E> stream) {
+        return stream.map(copier)
+                .collect(Collectors.toList());
+    }
+
+    private static <T extends Comparable<? super T>> NavigableSet<T> distinct(final Collection<T> keys) {
+        return keys.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    static <T> T notNull(final T value, final String column) {
+        if (Objects.isNull(value)) {
+            throw new DataIntegrityViolationException("NULL not allowed for column \"" + column + "\"");
+        }
+        return value;
+    }
+
+    static String varchar(final String value, final String column) {
+        if (notNull(value, column).length() > VARCHAR_LENGTH) {
+            throw new DataIntegrityViolationException("Value too long for column \"" + column + "\"");
+        }
+        return value;
+    }
+
+    static BigDecimal decimal(final BigDecimal value, final String column) {
+        final BigDecimal scaled = notNull(value, column).setScale(DECIMAL_SCALE, RoundingMode.HALF_UP);
+        if (scaled.precision() > DECIMAL_PRECISION) {
+            throw new DataIntegrityViolationException("Value too long for column \"" + column + "\"");
+        }
+        return scaled;
+    }
+
+    static LocalDateTime datetime(final LocalDateTime value, final String column) {
+        return notNull(value, column).truncatedTo(ChronoUnit.MICROS);
+    }
+}
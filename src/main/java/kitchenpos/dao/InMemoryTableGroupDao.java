@@ -0,0 +1,46 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.TableGroup;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kitchenpos.dao.InMemoryTable.datetime;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryTableGroupDao implements TableGroupDao {
+    private final InMemoryTable<Long, TableGroup> table = new InMemoryTable<>("table_group", InMemoryTableGroupDao::copyOf);
+
+    @Override
+    public TableGroup save(final TableGroup entity) {
+        final TableGroup row = new TableGroup();
+        row.setCreatedDate(datetime(entity.getCreatedDate(), "CREATED_DATE"));
+        row.setId(table.nextId());
+        table.insert(row.getId(), row);
+        return row;
+    }
+
+    @Override
+    public Optional<TableGroup> findById(final Long id) {
+        return table.find(id);
+    }
+
+    @Override
+    public List<TableGroup> findAll() {
+        return table.findAll();
+    }
+
+    void references(final Long id, final String constraint) {
+        table.references(id, constraint);
+    }
+
+    private static TableGroup copyOf(final TableGroup row) {
+        final TableGroup entity = new TableGroup();
+        entity.setId(row.getId());
+        entity.setCreatedDate(row.getCreatedDate());
+        return entity;
+    }
+}
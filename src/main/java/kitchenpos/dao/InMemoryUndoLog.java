@@ -0,0 +1,46 @@
+package kitchenpos.dao;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Undoes in-memory writes, newest first, when their transaction rolls back.
+ */
+final class InMemoryUndoLog extends TransactionSynchronizationAdapter {
+    private final Deque<Runnable> undos = new ArrayDeque<>();
+
+    private InMemoryUndoLog() {
+    }
+
+    static void record(final Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        current().undos.push(undo);
+    }
+
+    private static InMemoryUndoLog current() {
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof InMemoryUndoLog) {
+                return (InMemoryUndoLog) synchronization;
+            }
+        }
+        final InMemoryUndoLog undoLog = new InMemoryUndoLog();
+        TransactionSynchronizationManager.registerSynchronization(undoLog);
+        return undoLog;
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+        if (status == STATUS_COMMITTED) {
+            return;
+        }
+        while (!undos.isEmpty()) {
+            undos.pop().run();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.IdempotencyKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@Profile("!in-memory")
+public class JdbcTemplateIdempotencyKeyDao implements IdempotencyKeyDao, WarmableDao {
+    private static final String TABLE_NAME = "idempotency_key";
+    private static final String KEY_COLUMN_NAME = "idempotency_key";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert jdbcInsert;
+
+    public JdbcTemplateIdempotencyKeyDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcInsert = new SimpleJdbcInsert(dataSource)
+                .withTableName(TABLE_NAME)
+        ;
+    }
+
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById("");
+    }
+
+    @Override
+    public IdempotencyKey save(final IdempotencyKey entity) {
+        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
+        jdbcInsert.execute(parameters);
+        return select(entity.getIdempotencyKey());
+    }
+
+    @Override
+    public Optional<IdempotencyKey> findById(final String idempotencyKey) {
+        try {
+            return Optional.of(select(idempotencyKey));
+        } catch (final EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public int deleteAllByCreatedDateBefore(final LocalDateTime createdDate) {
+        final String sql = "DELETE FROM idempotency_key WHERE created_date < (:createdDate)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("createdDate", createdDate);
+        return jdbcTemplate.update(sql, parameters);
+    }
+
+    private IdempotencyKey select(final String idempotencyKey) {
+        final String sql = "SELECT idempotency_key, request_hash, response_body, created_date" +
+                " FROM idempotency_key WHERE idempotency_key = (:idempotencyKey)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("idempotencyKey", idempotencyKey);
+        return jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    private IdempotencyKey toEntity(final ResultSet resultSet) throws SQLException {
+        final IdempotencyKey entity = new IdempotencyKey();
+        entity.setIdempotencyKey(resultSet.getString(KEY_COLUMN_NAME));
+        entity.setRequestHash(resultSet.getString("request_hash"));
+        entity.setResponseBody(resultSet.getString("response_body"));
+        entity.setCreatedDate(resultSet.getObject("created_date", LocalDateTime.class));
+        return entity;
+    }
+}
@@ -1,7 +1,11 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -12,25 +16,49 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
-public class JdbcTemplateMenuDao implements MenuDao {
+@Profile("!in-memory")
+public class JdbcTemplateMenuDao implements MenuDao, WarmableDao {
     private static final String TABLE_NAME = "menu";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int STREAMING_FETCH_SIZE = 500;
+    private static final Map<String, String> FIELD_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        FIELD_COLUMNS.put("name", "name");
+        FIELD_COLUMNS.put("price", "price");
+        FIELD_COLUMNS.put("menuGroupId", "menu_group_id");
+    }
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
 
     public JdbcTemplateMenuDao(final DataSource dataSource) {
         jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
         ;
     }
 
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById(0L);
+    }
+
     @Override
     public Menu save(final Menu entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
@@ -53,6 +81,41 @@ public class JdbcTemplateMenuDao implements MenuDao {
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public void findAllWithMenuProducts(final Consumer<Menu> action) {
+        findAll(FIELDS, action);
+    }
+
+    @Override
+    public void findAll(final Collection<String> fields, final Consumer<Menu> action) {
+        final StringBuilder columns = new StringBuilder("m.id");
+        FIELD_COLUMNS.forEach((field, column) -> {
+            if (fields.contains(field)) {
+                columns.append(", m.").append(column);
+            }
+        });
+
+        if (!fields.contains(MENU_PRODUCTS)) {
+            final String sql = "SELECT " + columns + " FROM menu m";
+            streamingJdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> action.accept(toEntity(resultSet, fields)));
+            return;
+        }
+
+        final String sql = "SELECT " + columns + ", mp.seq, mp.product_id, mp.quantity" +
+                " FROM menu m LEFT JOIN menu_product mp ON mp.menu_id = m.id ORDER BY m.id, mp.seq";
+        final MenuAggregateHandler handler = new MenuAggregateHandler(fields, action);
+        streamingJdbcTemplate.query(sql, handler);
+        handler.flush();
+    }
+
+    @Override
+    public List<Menu> findAllByIdIn(final List<Long> ids) {
+        final String sql = "SELECT id, name, price, menu_group_id FROM menu WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
     @Override
     public long countByIdIn(final List<Long> ids) {
         final String sql = "SELECT COUNT(*) FROM menu WHERE id IN (:ids)";
@@ -69,11 +132,60 @@ public class JdbcTemplateMenuDao implements MenuDao {
     }
 
     private Menu toEntity(final ResultSet resultSet) throws SQLException {
+        return toEntity(resultSet, FIELDS);
+    }
+
+    private Menu toEntity(final ResultSet resultSet, final Collection<String> fields) throws SQLException {
         final Menu entity = new Menu();
         entity.setId(resultSet.getLong("id"));
-        entity.setName(resultSet.getString("name"));
-        entity.setPrice(resultSet.getBigDecimal("price"));
-        entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
+        if (fields.contains("name")) {
+            entity.setName(resultSet.getString("name"));
+        }
+        if (fields.contains("price")) {
+            entity.setPrice(resultSet.getBigDecimal("price"));
+        }
+        if (fields.contains("menuGroupId")) {
+            entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
+        }
         return entity;
     }
+
+    private class MenuAggregateHandler implements RowCallbackHandler {
+        private final Collection<String> fields;
+        private final Consumer<Menu> action;
+        private Menu current;
+
+        MenuAggregateHandler(final Collection<String> fields, final Consumer<Menu> action) {
+            this.fields = fields;
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long id = resultSet.getLong(KEY_COLUMN_NAME);
+            if (Objects.isNull(current) || current.getId() != id) {
+                flush();
+                current = toEntity(resultSet, fields);
+                current.setMenuProducts(new ArrayList<>());
+            }
+
+            final long seq = resultSet.getLong("seq");
+            if (resultSet.wasNull()) {
+                return;
+            }
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setSeq(seq);
+            menuProduct.setMenuId(id);
+            menuProduct.setProductId(resultSet.getLong("product_id"));
+            menuProduct.setQuantity(resultSet.getLong("quantity"));
+            current.getMenuProducts().add(menuProduct);
+        }
+
+        void flush() {
+            if (Objects.nonNull(current)) {
+                action.accept(current);
+                current = null;
+            }
+        }
+    }
 }
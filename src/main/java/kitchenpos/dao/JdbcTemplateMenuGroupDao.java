@@ -1,6 +1,7 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.MenuGroup;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -16,7 +17,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
+@Profile("!in-memory")
+public class JdbcTemplateMenuGroupDao implements MenuGroupDao, WarmableDao {
     private static final String TABLE_NAME = "menu_group";
     private static final String KEY_COLUMN_NAME = "id";
 
@@ -31,6 +33,12 @@ public class JdbcTemplateMenuGroupDao implements MenuGroupDao {
         ;
     }
 
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById(0L);
+    }
+
     @Override
     public MenuGroup save(final MenuGroup entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
@@ -1,6 +1,7 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.MenuProduct;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -16,7 +17,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateMenuProductDao implements MenuProductDao {
+@Profile("!in-memory")
+public class JdbcTemplateMenuProductDao implements MenuProductDao, WarmableDao {
     private static final String TABLE_NAME = "menu_product";
     private static final String KEY_COLUMN_NAME = "seq";
 
@@ -31,6 +33,12 @@ public class JdbcTemplateMenuProductDao implements MenuProductDao {
         ;
     }
 
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById(0L);
+    }
+
     @Override
     public MenuProduct save(final MenuProduct entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
@@ -1,7 +1,12 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -10,29 +15,53 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
-public class JdbcTemplateOrderDao implements OrderDao {
+@Profile("!in-memory")
+public class JdbcTemplateOrderDao implements OrderDao, WarmableDao {
     private static final String TABLE_NAME = "orders";
     private static final String KEY_COLUMN_NAME = "id";
+    private static final int STREAMING_FETCH_SIZE = 500;
+    private static final Map<String, String> FIELD_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        FIELD_COLUMNS.put("orderTableId", "order_table_id");
+        FIELD_COLUMNS.put("orderStatus", "order_status");
+        FIELD_COLUMNS.put("orderedTime", "ordered_time");
+    }
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
 
     public JdbcTemplateOrderDao(final DataSource dataSource) {
         jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
         jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName(TABLE_NAME)
                 .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
         ;
     }
 
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById(0L);
+    }
+
     @Override
     public Order save(final Order entity) {
         if (Objects.isNull(entity.getId())) {
@@ -44,6 +73,31 @@ public class JdbcTemplateOrderDao implements OrderDao {
         return entity;
     }
 
+    @Override
+    public List<Order> saveAll(final List<Order> entities) {
+        final String sql = "INSERT INTO orders (order_table_id, order_status, ordered_time) VALUES (?, ?, ?)";
+        return jdbcTemplate.getJdbcOperations().execute((ConnectionCallback<List<Order>>) connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(sql, new String[]{KEY_COLUMN_NAME})) {
+                for (final Order entity : entities) {
+                    statement.setLong(1, entity.getOrderTableId());
+                    statement.setString(2, entity.getOrderStatus());
+                    statement.setObject(3, entity.getOrderedTime());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    for (final Order entity : entities) {
+                        if (!generatedKeys.next()) {
+                            throw new IllegalStateException();
+                        }
+                        entity.setId(generatedKeys.getLong(1));
+                    }
+                }
+            }
+            return entities;
+        });
+    }
+
     @Override
     public Optional<Order> findById(final Long id) {
         try {
@@ -59,6 +113,33 @@ public class JdbcTemplateOrderDao implements OrderDao {
         return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public void findAllWithOrderLineItems(final Consumer<Order> action) {
+        findAll(FIELDS, action);
+    }
+
+    @Override
+    public void findAll(final Collection<String> fields, final Consumer<Order> action) {
+        final StringBuilder columns = new StringBuilder("o.id");
+        FIELD_COLUMNS.forEach((field, column) -> {
+            if (fields.contains(field)) {
+                columns.append(", o.").append(column);
+            }
+        });
+
+        if (!fields.contains(ORDER_LINE_ITEMS)) {
+            final String sql = "SELECT " + columns + " FROM orders o";
+            streamingJdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> action.accept(toEntity(resultSet, fields)));
+            return;
+        }
+
+        final String sql = "SELECT " + columns + ", oli.seq, oli.menu_id, oli.quantity" +
+                " FROM orders o LEFT JOIN order_line_item oli ON oli.order_id = o.id ORDER BY o.id, oli.seq";
+        final OrderAggregateHandler handler = new OrderAggregateHandler(fields, action);
+        streamingJdbcTemplate.query(sql, handler);
+        handler.flush();
+    }
+
     @Override
     public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<String> orderStatuses) {
         final String sql = "SELECT CASE WHEN COUNT(*) > 0 THEN TRUE ELSE FALSE END" +
@@ -95,11 +176,64 @@ public class JdbcTemplateOrderDao implements OrderDao {
     }
 
     private Order toEntity(final ResultSet resultSet) throws SQLException {
+        return toEntity(resultSet, FIELDS);
+    }
+
+    private Order toEntity(final ResultSet resultSet, final Collection<String> fields) throws SQLException {
         final Order entity = new Order();
         entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
-        entity.setOrderTableId(resultSet.getLong("order_table_id"));
-        entity.setOrderStatus(resultSet.getString("order_status"));
-        entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
+        if (fields.contains("orderTableId")) {
+            entity.setOrderTableId(resultSet.getLong("order_table_id"));
+        }
+        if (fields.contains("orderStatus")) {
+            entity.setOrderStatus(resultSet.getString("order_status"));
+        }
+        if (fields.contains("orderedTime")) {
+            entity.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
+        }
         return entity;
     }
+
+    /**
+     * Rebuilds one order at a time from rows sorted by order id and hands each off as soon
+     * as its last line item has been read, so only the current aggregate is kept in memory.
+     */
+    private class OrderAggregateHandler implements RowCallbackHandler {
+        private final Collection<String> fields;
+        private final Consumer<Order> action;
+        private Order current;
+
+        OrderAggregateHandler(final Collection<String> fields, final Consumer<Order> action) {
+            this.fields = fields;
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long id = resultSet.getLong(KEY_COLUMN_NAME);
+            if (Objects.isNull(current) || current.getId() != id) {
+                flush();
+                current = toEntity(resultSet, fields);
+                current.setOrderLineItems(new ArrayList<>());
+            }
+
+            final long seq = resultSet.getLong("seq");
+            if (resultSet.wasNull()) {
+                return;
+            }
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setSeq(seq);
+            orderLineItem.setOrderId(id);
+            orderLineItem.setMenuId(resultSet.getLong("menu_id"));
+            orderLineItem.setQuantity(resultSet.getLong("quantity"));
+            current.getOrderLineItems().add(orderLineItem);
+        }
+
+        void flush() {
+            if (Objects.nonNull(current)) {
+                action.accept(current);
+                current = null;
+            }
+        }
+    }
 }
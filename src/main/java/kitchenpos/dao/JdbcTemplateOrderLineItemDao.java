@@ -1,6 +1,8 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.PrepItem;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -16,7 +18,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
+@Profile("!in-memory")
+public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao, WarmableDao {
     private static final String TABLE_NAME = "order_line_item";
     private static final String KEY_COLUMN_NAME = "seq";
 
@@ -31,6 +34,12 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         ;
     }
 
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById(0L);
+    }
+
     @Override
     public OrderLineItem save(final OrderLineItem entity) {
         final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
@@ -38,6 +47,14 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return select(key.longValue());
     }
 
+    @Override
+    public void saveAll(final List<OrderLineItem> entities) {
+        final SqlParameterSource[] parameters = entities.stream()
+                .map(BeanPropertySqlParameterSource::new)
+                .toArray(SqlParameterSource[]::new);
+        jdbcInsert.executeBatch(parameters);
+    }
+
     @Override
     public Optional<OrderLineItem> findById(final Long id) {
         try {
@@ -61,6 +78,23 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
     }
 
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public List<PrepItem> sumQuantityGroupByMenuIdByOrderStatus(final String orderStatus) {
+        final String sql = "SELECT oli.menu_id, SUM(oli.quantity) AS quantity FROM order_line_item oli" +
+                " JOIN orders o ON o.id = oli.order_id WHERE o.order_status = (:orderStatus) GROUP BY oli.menu_id";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatus", orderStatus);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toPrepItem(resultSet));
+    }
+
     private OrderLineItem select(final Long id) {
         final String sql = "SELECT seq, order_id, menu_id, quantity FROM order_line_item WHERE seq = (:seq)";
         final SqlParameterSource parameters = new MapSqlParameterSource()
@@ -76,4 +110,11 @@ public class JdbcTemplateOrderLineItemDao implements OrderLineItemDao {
         entity.setQuantity(resultSet.getLong("quantity"));
         return entity;
     }
+
+    private PrepItem toPrepItem(final ResultSet resultSet) throws SQLException {
+        final PrepItem prepItem = new PrepItem();
+        prepItem.setMenuId(resultSet.getLong("menu_id"));
+        prepItem.setQuantity(resultSet.getLong("quantity"));
+        return prepItem;
+    }
 }
@@ -1,6 +1,7 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.OrderTable;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -17,7 +18,8 @@ import java.util.Objects;
 import java.util.Optional;
 
 @Repository
-public class JdbcTemplateOrderTableDao implements OrderTableDao {
+@Profile("!in-memory")
+public class JdbcTemplateOrderTableDao implements OrderTableDao, WarmableDao {
     private static final String TABLE_NAME = "order_table";
     private static final String KEY_COLUMN_NAME = "id";
 
@@ -32,6 +34,12 @@ public class JdbcTemplateOrderTableDao implements OrderTableDao {
         ;
     }
 
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findById(0L);
+    }
+
     @Override
     public OrderTable save(final OrderTable entity) {
         if (Objects.isNull(entity.getId())) {
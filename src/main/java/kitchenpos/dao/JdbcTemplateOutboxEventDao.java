@@ -0,0 +1,89 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OutboxEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("!in-memory")
+public class JdbcTemplateOutboxEventDao implements OutboxEventDao, WarmableDao {
+    private static final String TABLE_NAME = "outbox_event";
+    private static final String KEY_COLUMN_NAME = "id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert jdbcInsert;
+
+    public JdbcTemplateOutboxEventDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcInsert = new SimpleJdbcInsert(dataSource)
+                .withTableName(TABLE_NAME)
+                .usingGeneratedKeyColumns(KEY_COLUMN_NAME)
+        ;
+    }
+
+    @Override
+    public void warmUp() {
+        jdbcInsert.compile();
+        findFirstOrderById(1);
+    }
+
+    @Override
+    public OutboxEvent save(final OutboxEvent entity) {
+        final SqlParameterSource parameters = new BeanPropertySqlParameterSource(entity);
+        final Number key = jdbcInsert.executeAndReturnKey(parameters);
+        entity.setId(key.longValue());
+        return entity;
+    }
+
+    @Override
+    public List<OutboxEvent> findFirstOrderById(final int limit) {
+        final String sql = "SELECT id, aggregate_type, aggregate_id, event_type, payload, created_date" +
+                " FROM outbox_event ORDER BY id LIMIT (:limit)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("limit", limit);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    @Override
+    public long count() {
+        final String sql = "SELECT COUNT(*) FROM outbox_event";
+        return jdbcTemplate.queryForObject(sql, new MapSqlParameterSource(), Long.class);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findMinCreatedDate() {
+        final String sql = "SELECT MIN(created_date) FROM outbox_event";
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, new MapSqlParameterSource(), LocalDateTime.class));
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<Long> ids) {
+        final String sql = "DELETE FROM outbox_event WHERE id IN (:ids)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    private OutboxEvent toEntity(final ResultSet resultSet) throws SQLException {
+        final OutboxEvent entity = new OutboxEvent();
+        entity.setId(resultSet.getLong(KEY_COLUMN_NAME));
+        entity.setAggregateType(resultSet.getString("aggregate_type"));
+        entity.setAggregateId(resultSet.getLong("aggregate_id"));
+        entity.setEventType(resultSet.getString("event_type"));
+        entity.setPayload(resultSet.getString("payload"));
+        entity.setCreatedDate(resultSet.getObject("created_date", LocalDateTime.class));
+        return entity;
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.RunningBill;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("!in-memory")
+public class JdbcTemplateRunningBillDao implements RunningBillDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateRunningBillDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void add(final Long orderTableId, final BigDecimal amount, final long orderCount, final long openOrderCount) {
+        final String updateSql = "UPDATE running_bill SET amount = amount + (:amount)," +
+                " order_count = order_count + (:orderCount), open_order_count = open_order_count + (:openOrderCount)" +
+                " WHERE order_table_id = (:orderTableId)";
+        final String insertSql = "INSERT INTO running_bill (order_table_id, amount, order_count, open_order_count)" +
+                " VALUES ((:orderTableId), (:amount), (:orderCount), (:openOrderCount))";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderTableId", orderTableId)
+                .addValue("amount", amount)
+                .addValue("orderCount", orderCount)
+                .addValue("openOrderCount", openOrderCount);
+        if (jdbcTemplate.update(updateSql, parameters) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(insertSql, parameters);
+        } catch (final DuplicateKeyException e) {
+            jdbcTemplate.update(updateSql, parameters);
+        }
+    }
+
+    @Override
+    public void deleteById(final Long orderTableId) {
+        final String sql = "DELETE FROM running_bill WHERE order_table_id = (:orderTableId)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderTableId", orderTableId);
+        jdbcTemplate.update(sql, parameters);
+    }
+
+    @Override
+    public Optional<RunningBill> findById(final Long orderTableId) {
+        final String sql = "SELECT order_table_id, amount, order_count, open_order_count" +
+                " FROM running_bill WHERE order_table_id = (:orderTableId)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderTableId", orderTableId);
+        try {
+            return Optional.of(jdbcTemplate.queryForObject(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet)));
+        } catch (final EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<RunningBill> findAllByTableGroupId(final Long tableGroupId) {
+        final String sql = "SELECT rb.order_table_id, rb.amount, rb.order_count, rb.open_order_count" +
+                " FROM running_bill rb JOIN order_table ot ON ot.id = rb.order_table_id" +
+                " WHERE ot.table_group_id = (:tableGroupId)";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tableGroupId", tableGroupId);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toEntity(resultSet));
+    }
+
+    private RunningBill toEntity(final ResultSet resultSet) throws SQLException {
+        final RunningBill entity = new RunningBill();
+        entity.setOrderTableId(resultSet.getLong("order_table_id"));
+        entity.setAmount(resultSet.getBigDecimal("amount"));
+        entity.setOrderCount(resultSet.getLong("order_count"));
+        entity.setOpenOrderCount(resultSet.getLong("open_order_count"));
+        return entity;
+    }
+}
@@ -0,0 +1,132 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Profile("!in-memory")
+public class JdbcTemplateSalesAggregateDao implements SalesAggregateDao {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateSalesAggregateDao(final DataSource dataSource) {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void addMenuSales(final Long menuId, final long quantity, final BigDecimal revenue) {
+        final String updateSql = "UPDATE menu_sales SET quantity = quantity + (:quantity)," +
+                " revenue = revenue + (:revenue) WHERE menu_id = (:menuId)";
+        final String insertSql = "INSERT INTO menu_sales (menu_id, quantity, revenue)" +
+                " VALUES ((:menuId), (:quantity), (:revenue))";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("menuId", menuId)
+                .addValue("quantity", quantity)
+                .addValue("revenue", revenue);
+        upsert(updateSql, insertSql, parameters);
+    }
+
+    @Override
+    public void addMenuGroupSales(final Long menuGroupId, final long quantity, final BigDecimal revenue) {
+        final String updateSql = "UPDATE menu_group_sales SET quantity = quantity + (:quantity)," +
+                " revenue = revenue + (:revenue) WHERE menu_group_id = (:menuGroupId)";
+        final String insertSql = "INSERT INTO menu_group_sales (menu_group_id, quantity, revenue)" +
+                " VALUES ((:menuGroupId), (:quantity), (:revenue))";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("menuGroupId", menuGroupId)
+                .addValue("quantity", quantity)
+                .addValue("revenue", revenue);
+        upsert(updateSql, insertSql, parameters);
+    }
+
+    @Override
+    public void addHourlySales(
+            final LocalDateTime hourBucket,
+            final long orderCount,
+            final long quantity,
+            final BigDecimal revenue
+    ) {
+        final String updateSql = "UPDATE hourly_sales SET order_count = order_count + (:orderCount)," +
+                " quantity = quantity + (:quantity), revenue = revenue + (:revenue)" +
+                " WHERE hour_bucket = (:hourBucket)";
+        final String insertSql = "INSERT INTO hourly_sales (hour_bucket, order_count, quantity, revenue)" +
+                " VALUES ((:hourBucket), (:orderCount), (:quantity), (:revenue))";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("hourBucket", hourBucket)
+                .addValue("orderCount", orderCount)
+                .addValue("quantity", quantity)
+                .addValue("revenue", revenue);
+        upsert(updateSql, insertSql, parameters);
+    }
+
+    @Override
+    public List<MenuSales> findAllMenuSales() {
+        final String sql = "SELECT menu_id, quantity, revenue FROM menu_sales";
+        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toMenuSales(resultSet));
+    }
+
+    @Override
+    public List<MenuGroupSales> findAllMenuGroupSales() {
+        final String sql = "SELECT menu_group_id, quantity, revenue FROM menu_group_sales";
+        return jdbcTemplate.query(sql, (resultSet, rowNumber) -> toMenuGroupSales(resultSet));
+    }
+
+    @Override
+    public List<HourlySales> findAllHourlySalesByHourBucketBetween(final LocalDateTime from, final LocalDateTime to) {
+        final String sql = "SELECT hour_bucket, order_count, quantity, revenue FROM hourly_sales" +
+                " WHERE hour_bucket >= (:from) AND hour_bucket < (:to) ORDER BY hour_bucket";
+        final SqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return jdbcTemplate.query(sql, parameters, (resultSet, rowNumber) -> toHourlySales(resultSet));
+    }
+
+    private void upsert(final String updateSql, final String insertSql, final SqlParameterSource parameters) {
+        if (jdbcTemplate.update(updateSql, parameters) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(insertSql, parameters);
+        } catch (final DuplicateKeyException e) {
+            jdbcTemplate.update(updateSql, parameters);
+        }
+    }
+
+    private MenuSales toMenuSales(final ResultSet resultSet) throws SQLException {
+        final MenuSales entity = new MenuSales();
+        entity.setMenuId(resultSet.getLong("menu_id"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setRevenue(resultSet.getBigDecimal("revenue"));
+        return entity;
+    }
+
+    private MenuGroupSales toMenuGroupSales(final ResultSet resultSet) throws SQLException {
+        final MenuGroupSales entity = new MenuGroupSales();
+        entity.setMenuGroupId(resultSet.getLong("menu_group_id"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setRevenue(resultSet.getBigDecimal("revenue"));
+        return entity;
+    }
+
+    private HourlySales toHourlySales(final ResultSet resultSet) throws SQLException {
+        final HourlySales entity = new HourlySales();
+        entity.setHourBucket(resultSet.getObject("hour_bucket", LocalDateTime.class));
+        entity.setOrderCount(resultSet.getLong("order_count"));
+        entity.setQuantity(resultSet.getLong("quantity"));
+        entity.setRevenue(resultSet.getBigDecimal("revenue"));
+        return entity;
+    }
+}
@@ -2,15 +2,32 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.Menu;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MenuDao {
+    String MENU_PRODUCTS = "menuProducts";
+    List<String> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            "id", "name", "price", "menuGroupId", MENU_PRODUCTS));
+
     Menu save(Menu entity);
 
     Optional<Menu> findById(Long id);
 
     List<Menu> findAll();
 
+    void findAllWithMenuProducts(Consumer<Menu> action);
+
+    /**
+     * Reads only the given {@link #FIELDS} of every menu, plus its id.
+     */
+    void findAll(Collection<String> fields, Consumer<Menu> action);
+
+    List<Menu> findAllByIdIn(List<Long> ids);
+
     long countByIdIn(List<Long> ids);
 }
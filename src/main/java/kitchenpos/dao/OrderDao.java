@@ -2,16 +2,33 @@ package kitchenpos.dao;
 
 import kitchenpos.domain.Order;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderDao {
+    String ORDER_LINE_ITEMS = "orderLineItems";
+    List<String> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            "id", "orderTableId", "orderStatus", "orderedTime", ORDER_LINE_ITEMS));
+
     Order save(Order entity);
 
+    List<Order> saveAll(List<Order> entities);
+
     Optional<Order> findById(Long id);
 
     List<Order> findAll();
 
+    void findAllWithOrderLineItems(Consumer<Order> action);
+
+    /**
+     * Reads only the given {@link #FIELDS} of every order, plus its id.
+     */
+    void findAll(Collection<String> fields, Consumer<Order> action);
+
     boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<String> orderStatuses);
 
     boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<String> orderStatuses);
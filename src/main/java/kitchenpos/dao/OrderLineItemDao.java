@@ -1,6 +1,7 @@
 package kitchenpos.dao;
 
 import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.PrepItem;
 
 import java.util.List;
 import java.util.Optional;
@@ -8,9 +9,15 @@ import java.util.Optional;
 public interface OrderLineItemDao {
     OrderLineItem save(OrderLineItem entity);
 
+    void saveAll(List<OrderLineItem> entities);
+
     Optional<OrderLineItem> findById(Long id);
 
     List<OrderLineItem> findAll();
 
     List<OrderLineItem> findAllByOrderId(Long orderId);
+
+    List<OrderLineItem> findAllByOrderIdIn(List<Long> orderIds);
+
+    List<PrepItem> sumQuantityGroupByMenuIdByOrderStatus(String orderStatus);
 }
@@ -0,0 +1,19 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventDao {
+    OutboxEvent save(OutboxEvent entity);
+
+    List<OutboxEvent> findFirstOrderById(int limit);
+
+    long count();
+
+    Optional<LocalDateTime> findMinCreatedDate();
+
+    void deleteAllByIdIn(List<Long> ids);
+}
@@ -0,0 +1,17 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.RunningBill;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+public interface RunningBillDao {
+    void add(Long orderTableId, BigDecimal amount, long orderCount, long openOrderCount);
+
+    void deleteById(Long orderTableId);
+
+    Optional<RunningBill> findById(Long orderTableId);
+
+    List<RunningBill> findAllByTableGroupId(Long tableGroupId);
+}
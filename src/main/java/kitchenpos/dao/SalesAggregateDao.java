@@ -0,0 +1,23 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesAggregateDao {
+    void addMenuSales(Long menuId, long quantity, BigDecimal revenue);
+
+    void addMenuGroupSales(Long menuGroupId, long quantity, BigDecimal revenue);
+
+    void addHourlySales(LocalDateTime hourBucket, long orderCount, long quantity, BigDecimal revenue);
+
+    List<MenuSales> findAllMenuSales();
+
+    List<MenuGroupSales> findAllMenuGroupSales();
+
+    List<HourlySales> findAllHourlySalesByHourBucketBetween(LocalDateTime from, LocalDateTime to);
+}
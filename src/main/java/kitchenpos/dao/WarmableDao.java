@@ -0,0 +1,5 @@
+package kitchenpos.dao;
+
+public interface WarmableDao {
+    void warmUp();
+}
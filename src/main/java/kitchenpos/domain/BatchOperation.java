@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class BatchOperation {
+    private BatchOperationType type;
+    private Long targetId;
+    private JsonNode body;
+
+    public BatchOperationType getType() {
+        return type;
+    }
+
+    public void setType(final BatchOperationType type) {
+        this.type = type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(final Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public JsonNode getBody() {
+        return body;
+    }
+
+    public void setBody(final JsonNode body) {
+        this.body = body;
+    }
+}
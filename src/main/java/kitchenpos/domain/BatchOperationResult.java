@@ -0,0 +1,45 @@
+package kitchenpos.domain;
+
+public class BatchOperationResult {
+    private boolean succeeded;
+    private Object body;
+    private String error;
+
+    public static BatchOperationResult succeeded(final Object body) {
+        final BatchOperationResult result = new BatchOperationResult();
+        result.setSucceeded(true);
+        result.setBody(body);
+        return result;
+    }
+
+    public static BatchOperationResult failed(final RuntimeException exception) {
+        final BatchOperationResult result = new BatchOperationResult();
+        result.setSucceeded(false);
+        result.setError(exception.getClass().getSimpleName());
+        return result;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(final boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public void setBody(final Object body) {
+        this.body = body;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(final String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum BatchOperationType {
+    CREATE_TABLE, CHANGE_EMPTY, CHANGE_NUMBER_OF_GUESTS, CREATE_ORDER, CHANGE_ORDER_STATUS, CREATE_TABLE_GROUP, UNGROUP
+}
@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class BatchRequest {
+    private boolean continueOnError;
+    private List<BatchOperation> operations;
+
+    public boolean isContinueOnError() {
+        return continueOnError;
+    }
+
+    public void setContinueOnError(final boolean continueOnError) {
+        this.continueOnError = continueOnError;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(final List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class BatchResult {
+    private boolean rolledBack;
+    private List<BatchOperationResult> results;
+
+    public BatchResult() {
+    }
+
+    public BatchResult(final boolean rolledBack, final List<BatchOperationResult> results) {
+        this.rolledBack = rolledBack;
+        this.results = results;
+    }
+
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+
+    public void setRolledBack(final boolean rolledBack) {
+        this.rolledBack = rolledBack;
+    }
+
+    public List<BatchOperationResult> getResults() {
+        return results;
+    }
+
+    public void setResults(final List<BatchOperationResult> results) {
+        this.results = results;
+    }
+}
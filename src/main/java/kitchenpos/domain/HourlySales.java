@@ -0,0 +1,43 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class HourlySales {
+    private LocalDateTime hourBucket;
+    private long orderCount;
+    private long quantity;
+    private BigDecimal revenue;
+
+    public LocalDateTime getHourBucket() {
+        return hourBucket;
+    }
+
+    public void setHourBucket(final LocalDateTime hourBucket) {
+        this.hourBucket = hourBucket;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(final BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
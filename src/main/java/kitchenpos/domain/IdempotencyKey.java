@@ -0,0 +1,42 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+
+public class IdempotencyKey {
+    private String idempotencyKey;
+    private String requestHash;
+    private String responseBody;
+    private LocalDateTime createdDate;
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(final String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public void setRequestHash(final String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public void setResponseBody(final String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(final LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+}
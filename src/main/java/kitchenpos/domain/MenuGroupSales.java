@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+
+public class MenuGroupSales {
+    private Long menuGroupId;
+    private long quantity;
+    private BigDecimal revenue;
+
+    public Long getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public void setMenuGroupId(final Long menuGroupId) {
+        this.menuGroupId = menuGroupId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(final BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
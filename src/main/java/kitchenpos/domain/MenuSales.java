@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+
+public class MenuSales {
+    private Long menuId;
+    private long quantity;
+    private BigDecimal revenue;
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(final Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(final BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
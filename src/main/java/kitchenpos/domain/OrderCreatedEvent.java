@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class OrderCreatedEvent {
+    private final Order order;
+
+    public OrderCreatedEvent(final Order order) {
+        this.order = order;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.domain;
+
+public class OrderReceipt {
+    private Long sequence;
+    private String idempotencyKey;
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(final Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(final String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+}
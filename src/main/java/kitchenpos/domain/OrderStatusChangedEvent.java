@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+public class OrderStatusChangedEvent {
+    private final Order order;
+    private final String previousOrderStatus;
+
+    public OrderStatusChangedEvent(final Order order, final String previousOrderStatus) {
+        this.order = order;
+        this.previousOrderStatus = previousOrderStatus;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public String getPreviousOrderStatus() {
+        return previousOrderStatus;
+    }
+}
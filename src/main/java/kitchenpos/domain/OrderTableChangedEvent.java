@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class OrderTableChangedEvent {
+    private final OrderTable orderTable;
+
+    public OrderTableChangedEvent(final OrderTable orderTable) {
+        this.orderTable = orderTable;
+    }
+
+    public OrderTable getOrderTable() {
+        return orderTable;
+    }
+}
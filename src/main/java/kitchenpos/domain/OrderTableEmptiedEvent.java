@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class OrderTableEmptiedEvent {
+    private final Long orderTableId;
+
+    public OrderTableEmptiedEvent(final Long orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+}
@@ -0,0 +1,31 @@
+package kitchenpos.domain;
+
+public class PopularMenu {
+    private Long menuId;
+    private long count;
+    private long error;
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(final Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(final long count) {
+        this.count = count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    public void setError(final long error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,42 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+
+public class RunningBill {
+    private Long orderTableId;
+    private BigDecimal amount;
+    private long orderCount;
+    private long openOrderCount;
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final Long orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public long getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final long openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class TableGroupBill {
+    private Long tableGroupId;
+    private BigDecimal amount;
+    private long orderCount;
+    private long openOrderCount;
+    private List<RunningBill> runningBills;
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public void setTableGroupId(final Long tableGroupId) {
+        this.tableGroupId = tableGroupId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public long getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final long openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
+
+    public List<RunningBill> getRunningBills() {
+        return runningBills;
+    }
+
+    public void setRunningBills(final List<RunningBill> runningBills) {
+        this.runningBills = runningBills;
+    }
+}
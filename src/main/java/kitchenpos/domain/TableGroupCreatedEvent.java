@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class TableGroupCreatedEvent {
+    private final TableGroup tableGroup;
+
+    public TableGroupCreatedEvent(final TableGroup tableGroup) {
+        this.tableGroup = tableGroup;
+    }
+
+    public TableGroup getTableGroup() {
+        return tableGroup;
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class TableGroupUngroupedEvent {
+    private final Long tableGroupId;
+    private final List<OrderTable> orderTables;
+
+    public TableGroupUngroupedEvent(final Long tableGroupId, final List<OrderTable> orderTables) {
+        this.tableGroupId = tableGroupId;
+        this.orderTables = orderTables;
+    }
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public List<OrderTable> getOrderTables() {
+        return orderTables;
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.journal;
+
+public class JournalRecord {
+    private final long sequence;
+    private final byte[] payload;
+
+    public JournalRecord(final long sequence, final byte[] payload) {
+        this.sequence = sequence;
+        this.payload = payload;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,322 @@
+package kitchenpos.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, group-committed journal of memory-mapped segment files.
+ */
+public class OrderJournal implements Closeable {
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Object appendLock = new Object();
+
+    private Thread writer;
+    private volatile boolean running;
+    private volatile IOException failure;
+    private volatile long durableSequence;
+
+    private MappedByteBuffer writeBuffer;
+    private long nextSequence;
+
+    private MappedByteBuffer readBuffer;
+    private long readSequence;
+
+    public OrderJournal(final Path directory, final int segmentSize, final int maxBatchSize, final Duration linger) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+    }
+
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        final List<Long> segments = segments();
+        if (segments.isEmpty()) {
+            nextSequence = 1;
+            writeBuffer = map(1, FileChannel.MapMode.READ_WRITE);
+        } else {
+            final long firstSequence = segments.get(segments.size() - 1);
+            writeBuffer = map(firstSequence, FileChannel.MapMode.READ_WRITE);
+            nextSequence = recover(writeBuffer, firstSequence);
+        }
+        durableSequence = nextSequence - 1;
+        seek(readCheckpoint());
+
+        running = true;
+        writer = new Thread(this::writeLoop, "order-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public CompletableFuture<Long> append(final byte[] payload) {
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+        if (HEADER_SIZE + payload.length > segmentSize) {
+            future.completeExceptionally(new IllegalArgumentException());
+            return future;
+        }
+        synchronized (appendLock) {
+            if (!running || failure != null) {
+                future.completeExceptionally(notAccepting());
+                return future;
+            }
+            queue.add(new PendingAppend(payload, future));
+        }
+        return future;
+    }
+
+    public synchronized List<JournalRecord> read(final int max) throws IOException {
+        final List<JournalRecord> records = new ArrayList<>();
+        while (records.size() < max && readSequence + 1 <= durableSequence) {
+            final long expected = readSequence + 1;
+            if (readBuffer.remaining() < HEADER_SIZE || readBuffer.getInt(readBuffer.position()) == 0) {
+                readBuffer = map(expected, FileChannel.MapMode.READ_ONLY);
+            }
+            final JournalRecord record = next(readBuffer, expected);
+            if (record == null) {
+                throw new IOException("Corrupt order journal record " + expected);
+            }
+            records.add(record);
+            readSequence = expected;
+        }
+        return records;
+    }
+
+    /**
+     * Moves the reader back (or forward) so the next {@link #read} starts after {@code checkpoint}.
+     */
+    public synchronized void seek(final long checkpoint) throws IOException {
+        readSequence = checkpoint;
+        long segment = 1;
+        for (final Long firstSequence : segments()) {
+            if (firstSequence <= checkpoint + 1) {
+                segment = firstSequence;
+            }
+        }
+        readBuffer = map(segment, FileChannel.MapMode.READ_ONLY);
+        for (long sequence = segment; sequence <= checkpoint; sequence++) {
+            if (next(readBuffer, sequence) == null) {
+                break;
+            }
+        }
+    }
+
+    public long readCheckpoint() throws IOException {
+        final Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+    }
+
+    public void writeCheckpoint(final long sequence) throws IOException {
+        try (final FileChannel channel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write((ByteBuffer) ByteBuffer.allocate(Long.BYTES).putLong(sequence).flip(), 0);
+            channel.force(false);
+        }
+        deleteSegmentsThrough(sequence);
+    }
+
+    public long getDurableSequence() {
+        return durableSequence;
+    }
+
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            running = false;
+        }
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<PendingAppend> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pendingAppend -> pendingAppend.future.completeExceptionally(notAccepting()));
+    }
+
+    private void writeLoop() {
+        final List<PendingAppend> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                final long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    final PendingAppend next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(final List<PendingAppend> batch) {
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            final long[] sequences = new long[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                sequences[i] = write(batch.get(i).payload);
+            }
+            writeBuffer.force();
+            durableSequence = nextSequence - 1;
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(sequences[i]);
+            }
+        } catch (final IOException e) {
+            failure = e;
+            batch.forEach(pendingAppend -> pendingAppend.future.completeExceptionally(e));
+        }
+    }
+
+    private long write(final byte[] payload) throws IOException {
+        if (writeBuffer.remaining() < HEADER_SIZE + payload.length) {
+            writeBuffer.force();
+            writeBuffer = map(nextSequence, FileChannel.MapMode.READ_WRITE);
+        }
+        final long sequence = nextSequence++;
+        final int position = writeBuffer.position();
+        writeBuffer.position(position + HEADER_SIZE);
+        writeBuffer.put(payload);
+        writeBuffer.putLong(position + Integer.BYTES + Integer.BYTES, sequence);
+        writeBuffer.putInt(position + Integer.BYTES, crc(sequence, payload));
+        writeBuffer.putInt(position, payload.length);
+        return sequence;
+    }
+
+    private long recover(final MappedByteBuffer buffer, final long firstSequence) {
+        long expected = firstSequence;
+        while (next(buffer, expected) != null) {
+            expected++;
+        }
+        final int end = buffer.position();
+        for (int position = end; position < buffer.limit(); position++) {
+            buffer.put(position, (byte) 0);
+        }
+        buffer.force();
+        return expected;
+    }
+
+    private JournalRecord next(final MappedByteBuffer buffer, final long expected) {
+        final int position = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        final int length = buffer.getInt(position);
+        if (length <= 0 || length > buffer.remaining() - HEADER_SIZE) {
+            return null;
+        }
+        final int crc = buffer.getInt(position + Integer.BYTES);
+        final long sequence = buffer.getLong(position + Integer.BYTES + Integer.BYTES);
+        final byte[] payload = new byte[length];
+        buffer.position(position + HEADER_SIZE);
+        buffer.get(payload);
+        if (sequence != expected || crc != crc(sequence, payload)) {
+            buffer.position(position);
+            return null;
+        }
+        return new JournalRecord(sequence, payload);
+    }
+
+    private void deleteSegmentsThrough(final long sequence) throws IOException {
+        final List<Long> segments = segments();
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (segments.get(i + 1) - 1 <= sequence) {
+                Files.deleteIfExists(segmentPath(segments.get(i)));
+            }
+        }
+    }
+
+    private MappedByteBuffer map(final long firstSequence, final FileChannel.MapMode mode) throws IOException {
+        final Path path = segmentPath(firstSequence);
+        if (mode == FileChannel.MapMode.READ_ONLY && !Files.exists(path)) {
+            throw new IOException("Missing order journal segment " + path);
+        }
+        try (final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(mode, 0, segmentSize);
+        }
+    }
+
+    private Path segmentPath(final long firstSequence) {
+        return directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private List<Long> segments() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private IllegalStateException notAccepting() {
+        return new IllegalStateException("Order journal is not accepting appends", failure);
+    }
+
+    private static int crc(final long sequence, final byte[] payload) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+
+    private static class PendingAppend {
+        private final byte[] payload;
+        private final CompletableFuture<Long> future;
+
+        private PendingAppend(final byte[] payload, final CompletableFuture<Long> future) {
+            this.payload = payload;
+            this.future = future;
+        }
+    }
+}
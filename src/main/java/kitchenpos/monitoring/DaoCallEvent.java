@@ -0,0 +1,32 @@
+package kitchenpos.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kitchenpos.DaoCall")
+@Label("DAO Call")
+@Category({"Kitchenpos", "Persistence"})
+@Description("Invocation of a JdbcTemplate DAO method")
+@StackTrace(false)
+public class DaoCallEvent extends Event {
+    @Label("DAO")
+    public String dao;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Entity Id")
+    @Description("Id passed to or returned by the call, -1 when there is none")
+    public long entityId = -1;
+
+    @Label("Rows")
+    @Description("Rows returned, -1 when the call does not return rows")
+    public long rows = -1;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,73 @@
+package kitchenpos.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+public class DaoMetricsAspect {
+    private final MeterRegistry meterRegistry;
+
+    public DaoMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * kitchenpos.dao.JdbcTemplate*Dao.*(..))")
+    public Object measure(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final String dao = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        final String method = joinPoint.getSignature().getName();
+        final long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            final Object result = joinPoint.proceed();
+            outcome = "success";
+            recordRows(dao, method, result);
+            return result;
+        } finally {
+            Timer.builder("kitchenpos.dao")
+                    .description("JDBC DAO method latency")
+                    .tag("dao", dao)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordRows(final String dao, final String method, final Object result) {
+        final long rows = rows(result);
+        if (rows < 0) {
+            return;
+        }
+        DistributionSummary.builder("kitchenpos.dao.rows")
+                .description("Rows returned by JDBC DAO methods")
+                .baseUnit("rows")
+                .tag("dao", dao)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    private long rows(final Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (Objects.isNull(result) || result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
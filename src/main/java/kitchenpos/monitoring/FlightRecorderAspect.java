@@ -0,0 +1,92 @@
+package kitchenpos.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+@Aspect
+public class FlightRecorderAspect {
+    private static final String ID_PROPERTY = "id";
+
+    @Around("execution(public * kitchenpos.application.*Service.*(..))")
+    public Object recordServiceCall(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            event.succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.entityId = entityId(joinPoint.getArgs(), result);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * kitchenpos.dao.JdbcTemplate*Dao.*(..))")
+    public Object recordDaoCall(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final DaoCallEvent event = new DaoCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            event.succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.dao = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.entityId = entityId(joinPoint.getArgs(), result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    private long entityId(final Object[] args, final Object result) {
+        if (args.length > 0 && args[0] instanceof Long) {
+            return (Long) args[0];
+        }
+        final Object entity = result instanceof Optional ? ((Optional<?>) result).orElse(null) : result;
+        if (Objects.isNull(entity) || entity instanceof Collection || entity instanceof Number
+                || entity instanceof Boolean) {
+            return -1;
+        }
+        final BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        if (!beanWrapper.isReadableProperty(ID_PROPERTY)) {
+            return -1;
+        }
+        final Object id = beanWrapper.getPropertyValue(ID_PROPERTY);
+        return id instanceof Long ? (Long) id : -1;
+    }
+
+    private long rows(final Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,109 @@
+package kitchenpos.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Starts, stops and downloads a bounded Flight Recorder recording.
+ */
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+    private static final String SETTINGS = "default";
+    private static final Duration MAX_DURATION = Duration.ofMinutes(30);
+    private static final long MAX_SIZE_BYTES = 256L * 1024 * 1024;
+
+    private Recording recording;
+    private Path dumpFile;
+
+    @ReadOperation
+    @Nullable
+    public synchronized Resource download() {
+        if (Objects.isNull(recording)) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        try {
+            if (Objects.isNull(dumpFile)) {
+                dumpFile = Files.createTempFile("kitchenpos-", ".jfr");
+                dumpFile.toFile().deleteOnExit();
+            }
+            Files.deleteIfExists(dumpFile);
+            recording.dump(dumpFile);
+            return new FileSystemResource(dumpFile);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable final Long durationSeconds, @Nullable final Long maxSizeMegabytes) {
+        if (Objects.nonNull(recording)) {
+            recording.close();
+        }
+
+        final Duration duration = Objects.isNull(durationSeconds)
+                ? MAX_DURATION
+                : min(Duration.ofSeconds(durationSeconds), MAX_DURATION);
+        final long maxSize = Objects.isNull(maxSizeMegabytes)
+                ? MAX_SIZE_BYTES
+                : Math.min(maxSizeMegabytes * 1024 * 1024, MAX_SIZE_BYTES);
+        try {
+            recording = new Recording(Configuration.getConfiguration(SETTINGS));
+        } catch (final IOException | ParseException e) {
+            throw new IllegalStateException(e);
+        }
+        recording.setName("kitchenpos");
+        recording.enable(ServiceCallEvent.class);
+        recording.enable(DaoCallEvent.class);
+        recording.setDuration(duration);
+        recording.setMaxSize(maxSize);
+        recording.setToDisk(true);
+        recording.start();
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (Objects.nonNull(recording) && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    private Map<String, Object> status() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        if (Objects.isNull(recording)) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxSize", recording.getMaxSize());
+        return status;
+    }
+
+    private Duration min(final Duration left, final Duration right) {
+        return left.compareTo(right) <= 0 ? left : right;
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kitchenpos.ServiceCall")
+@Label("Service Call")
+@Category({"Kitchenpos", "Application"})
+@Description("Invocation of a kitchenpos.application service method")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Entity Id")
+    @Description("Id passed to or returned by the call, -1 when there is none")
+    public long entityId = -1;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,70 @@
+package kitchenpos.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class Span {
+    private final String kind;
+    private final String name;
+    private final String sql;
+    private final long startNanos;
+    private final List<Span> children = new ArrayList<>();
+    private long offsetNanos;
+    private long durationNanos;
+    private boolean error;
+
+    Span(final String kind, final String name, final String sql, final long startNanos) {
+        this.kind = kind;
+        this.name = name;
+        this.sql = sql;
+        this.startNanos = startNanos;
+    }
+
+    void addChild(final Span child, final long traceStartNanos) {
+        child.offsetNanos = child.startNanos - traceStartNanos;
+        children.add(child);
+    }
+
+    void end(final long endNanos, final boolean error) {
+        this.durationNanos = endNanos - startNanos;
+        this.error = error;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long durationNanos() {
+        return durationNanos;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getOffsetMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(offsetNanos);
+    }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    public List<Span> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+}
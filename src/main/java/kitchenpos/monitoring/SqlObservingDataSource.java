@@ -0,0 +1,154 @@
+package kitchenpos.monitoring;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Reports every statement execution to the current {@link SqlStatementListener}s.
+ */
+public final class SqlObservingDataSource {
+    private SqlObservingDataSource() {
+    }
+
+    public static DataSource wrap(final DataSource dataSource, final Supplier<Iterable<SqlStatementListener>> listeners) {
+        return (DataSource) Proxy.newProxyInstance(
+                SqlObservingDataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                new Handler(dataSource, (proxy, method, args, result) -> {
+                    if (result instanceof Connection) {
+                        return wrapConnection((Connection) result, listeners);
+                    }
+                    return result;
+                })
+        );
+    }
+
+    private static Connection wrapConnection(
+            final Connection connection,
+            final Supplier<Iterable<SqlStatementListener>> listeners
+    ) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlObservingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new Handler(connection, (proxy, method, args, result) -> {
+                    if (result instanceof CallableStatement) {
+                        return wrapStatement(result, CallableStatement.class, (String) args[0], listeners);
+                    }
+                    if (result instanceof PreparedStatement) {
+                        return wrapStatement(result, PreparedStatement.class, (String) args[0], listeners);
+                    }
+                    if (result instanceof Statement) {
+                        return wrapStatement(result, Statement.class, null, listeners);
+                    }
+                    return result;
+                })
+        );
+    }
+
+    private static Object wrapStatement(
+            final Object statement,
+            final Class<?> type,
+            final String preparedSql,
+            final Supplier<Iterable<SqlStatementListener>> listeners
+    ) {
+        return Proxy.newProxyInstance(
+                SqlObservingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement, preparedSql, listeners)
+        );
+    }
+
+    private interface ResultWrapper {
+        Object wrap(Object proxy, Method method, Object[] args, Object result);
+    }
+
+    private static class Handler implements InvocationHandler {
+        private final Object target;
+        private final ResultWrapper resultWrapper;
+
+        private Handler(final Object target, final ResultWrapper resultWrapper) {
+            this.target = target;
+            this.resultWrapper = resultWrapper;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(target)) {
+                return target;
+            }
+            if ("isWrapperFor".equals(method.getName()) && ((Class<?>) args[0]).isInstance(target)) {
+                return true;
+            }
+            return resultWrapper.wrap(proxy, method, args, invokeTarget(target, method, args));
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final Object target;
+        private final String preparedSql;
+        private final Supplier<Iterable<SqlStatementListener>> listeners;
+        private String batchSql;
+
+        private StatementHandler(
+                final Object target,
+                final String preparedSql,
+                final Supplier<Iterable<SqlStatementListener>> listeners
+        ) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if ("addBatch".equals(name) && Objects.nonNull(args) && args.length == 1) {
+                batchSql = (String) args[0];
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            final String sql = resolveSql(name, args);
+            final long startedAt = System.nanoTime();
+            boolean success = false;
+            try {
+                final Object result = invokeTarget(target, method, args);
+                success = true;
+                return result;
+            } finally {
+                final long elapsedNanos = System.nanoTime() - startedAt;
+                for (final SqlStatementListener listener : listeners.get()) {
+                    listener.onExecuted(sql, elapsedNanos, success);
+                }
+            }
+        }
+
+        private String resolveSql(final String name, final Object[] args) {
+            if (Objects.nonNull(args) && args.length > 0 && args[0] instanceof String) {
+                return (String) args[0];
+            }
+            if (name.contains("Batch") && Objects.isNull(preparedSql)) {
+                return batchSql;
+            }
+            return preparedSql;
+        }
+    }
+
+    private static Object invokeTarget(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
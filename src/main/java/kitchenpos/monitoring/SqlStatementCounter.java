@@ -0,0 +1,30 @@
+package kitchenpos.monitoring;
+
+import java.util.Objects;
+
+public class SqlStatementCounter implements SqlStatementListener {
+    private final ThreadLocal<long[]> counts = new ThreadLocal<>();
+
+    public void start() {
+        counts.set(new long[1]);
+    }
+
+    public long stop() {
+        final long count = current();
+        counts.remove();
+        return count;
+    }
+
+    public long current() {
+        final long[] count = counts.get();
+        return Objects.isNull(count) ? 0 : count[0];
+    }
+
+    @Override
+    public void onExecuted(final String sql, final long elapsedNanos, final boolean success) {
+        final long[] count = counts.get();
+        if (Objects.nonNull(count)) {
+            count[0]++;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package kitchenpos.monitoring;
+
+public interface SqlStatementListener {
+    void onExecuted(String sql, long elapsedNanos, boolean success);
+}
@@ -0,0 +1,36 @@
+package kitchenpos.monitoring;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+public class Trace {
+    private final String traceId;
+    private final Instant startedAt;
+    private final Span root;
+
+    Trace(final String traceId, final Instant startedAt, final Span root) {
+        this.traceId = traceId;
+        this.startedAt = startedAt;
+        this.root = root;
+    }
+
+    long durationNanos() {
+        return root.durationNanos();
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(root.durationNanos());
+    }
+
+    public Span getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of completed traces.
+ */
+class TraceRingBuffer {
+    private final AtomicReferenceArray<Trace> slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private final int mask;
+
+    TraceRingBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    void add(final Trace trace) {
+        slots.set((int) (sequence.getAndIncrement() & mask), trace);
+    }
+
+    List<Trace> newestFirst() {
+        final long end = sequence.get();
+        final long start = Math.max(0, end - slots.length());
+        final List<Trace> traces = new ArrayList<>();
+        for (long index = end - 1; index >= start; index--) {
+            final Trace trace = slots.get((int) (index & mask));
+            if (Objects.nonNull(trace)) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+}
@@ -0,0 +1,104 @@
+package kitchenpos.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Thread-confined span tracing that keeps recent traces and, separately, slow ones.
+ */
+public class Tracer implements SqlStatementListener {
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String DAO = "dao";
+    public static final String SQL = "sql";
+
+    private final ThreadLocal<Deque<Span>> activeSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Instant> traceStartedAt = new ThreadLocal<>();
+    private final TraceRingBuffer recentTraces;
+    private final TraceRingBuffer slowTraces;
+    private final long slowThresholdNanos;
+
+    public Tracer(final int capacity, final int slowCapacity, final Duration slowThreshold) {
+        this.recentTraces = new TraceRingBuffer(capacity);
+        this.slowTraces = new TraceRingBuffer(slowCapacity);
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    public void startTrace(final String name) {
+        final Deque<Span> spans = activeSpans.get();
+        spans.clear();
+        traceStartedAt.set(Instant.now());
+        spans.push(new Span(CONTROLLER, name, null, System.nanoTime()));
+    }
+
+    public void endTrace(final boolean error) {
+        final Deque<Span> spans = activeSpans.get();
+        if (spans.isEmpty()) {
+            return;
+        }
+        final Span root = spans.peekLast();
+        root.end(System.nanoTime(), error);
+        spans.clear();
+
+        final Trace trace = new Trace(UUID.randomUUID().toString(), traceStartedAt.get(), root);
+        traceStartedAt.remove();
+        recentTraces.add(trace);
+        if (trace.durationNanos() >= slowThresholdNanos) {
+            slowTraces.add(trace);
+        }
+    }
+
+    public boolean isTracing() {
+        return !activeSpans.get().isEmpty();
+    }
+
+    public void startSpan(final String kind, final String name) {
+        final Deque<Span> spans = activeSpans.get();
+        if (spans.isEmpty()) {
+            return;
+        }
+        final Span span = new Span(kind, name, null, System.nanoTime());
+        spans.peek().addChild(span, spans.peekLast().startNanos());
+        spans.push(span);
+    }
+
+    public void endSpan(final boolean error) {
+        final Deque<Span> spans = activeSpans.get();
+        if (spans.size() > 1) {
+            spans.pop().end(System.nanoTime(), error);
+        }
+    }
+
+    @Override
+    public void onExecuted(final String sql, final long elapsedNanos, final boolean success) {
+        final Deque<Span> spans = activeSpans.get();
+        if (spans.isEmpty()) {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        final Span span = new Span(SQL, SQL, sql, endNanos - elapsedNanos);
+        span.end(endNanos, !success);
+        spans.peek().addChild(span, spans.peekLast().startNanos());
+    }
+
+    public List<Trace> recentTraces() {
+        return recentTraces.newestFirst();
+    }
+
+    public List<Trace> slowTraces() {
+        return slowTraces.newestFirst();
+    }
+
+    public Optional<Trace> findTrace(final String traceId) {
+        return Stream.concat(recentTraces().stream(), slowTraces().stream())
+                .filter(trace -> Objects.equals(trace.getTraceId(), traceId))
+                .findFirst();
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+    private final Tracer tracer;
+
+    public TracesEndpoint(final Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @ReadOperation
+    public List<Trace> traces(@Nullable final Boolean slow, @Nullable final Integer limit) {
+        final List<Trace> traces = Boolean.TRUE.equals(slow) ? tracer.slowTraces() : tracer.recentTraces();
+        return traces.stream()
+                .limit(limit == null ? Long.MAX_VALUE : limit)
+                .collect(Collectors.toList());
+    }
+
+    @ReadOperation
+    public Trace trace(@Selector final String traceId) {
+        return tracer.findTrace(traceId)
+                .orElse(null);
+    }
+}
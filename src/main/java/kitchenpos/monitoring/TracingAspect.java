@@ -0,0 +1,41 @@
+package kitchenpos.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class TracingAspect {
+    private final Tracer tracer;
+
+    public TracingAspect(final Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * kitchenpos.application.*Service.*(..))")
+    public Object traceService(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Tracer.SERVICE, joinPoint);
+    }
+
+    @Around("execution(public * kitchenpos.dao.JdbcTemplate*Dao.*(..))")
+    public Object traceDao(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Tracer.DAO, joinPoint);
+    }
+
+    private Object trace(final String kind, final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+
+        tracer.startSpan(kind, joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        boolean error = true;
+        try {
+            final Object result = joinPoint.proceed();
+            error = false;
+            return result;
+        } finally {
+            tracer.endSpan(error);
+        }
+    }
+}
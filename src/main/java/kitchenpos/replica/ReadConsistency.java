@@ -0,0 +1,29 @@
+package kitchenpos.replica;
+
+/**
+ * Per-request read-your-writes pinning to the primary.
+ */
+public final class ReadConsistency {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static void begin(final boolean pinned) {
+        PINNED.set(pinned);
+    }
+
+    public static void pin() {
+        if (PINNED.get() != null) {
+            PINNED.set(Boolean.TRUE);
+        }
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void end() {
+        PINNED.remove();
+    }
+}
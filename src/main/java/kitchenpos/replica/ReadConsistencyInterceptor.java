@@ -0,0 +1,26 @@
+package kitchenpos.replica;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class ReadConsistencyInterceptor implements HandlerInterceptor {
+    public static final String READ_YOUR_WRITES_HEADER = "X-Read-Your-Writes";
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        ReadConsistency.begin(Boolean.parseBoolean(request.getHeader(READ_YOUR_WRITES_HEADER)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex
+    ) {
+        ReadConsistency.end();
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.replica;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Estimates replica staleness from a heartbeat row written on the primary.
+ */
+public class ReplicaLagMonitor {
+    private static final String UPDATE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = (:beatAt) WHERE id = 1";
+    private static final String SELECT_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final NamedParameterJdbcTemplate primaryJdbcTemplate;
+    private final NamedParameterJdbcTemplate replicaJdbcTemplate;
+    private final Duration maxStaleness;
+    private volatile long lagMillis = Long.MAX_VALUE;
+
+    public ReplicaLagMonitor(final DataSource primary, final DataSource replica, final Duration maxStaleness) {
+        this.primaryJdbcTemplate = new NamedParameterJdbcTemplate(primary);
+        this.replicaJdbcTemplate = new NamedParameterJdbcTemplate(replica);
+        this.maxStaleness = maxStaleness;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.replica.heartbeat-interval:PT1S}")
+    public void heartbeat() {
+        primaryJdbcTemplate.update(UPDATE_HEARTBEAT, new MapSqlParameterSource("beatAt", System.currentTimeMillis()));
+        refresh();
+    }
+
+    public void refresh() {
+        try {
+            final Long beatAt = replicaJdbcTemplate.queryForObject(SELECT_HEARTBEAT, new MapSqlParameterSource(), Long.class);
+            lagMillis = Math.max(0, System.currentTimeMillis() - beatAt);
+        } catch (final DataAccessException e) {
+            lagMillis = Long.MAX_VALUE;
+        }
+    }
+
+    public boolean isFresh() {
+        return Objects.isNull(maxStaleness) || lagMillis <= maxStaleness.toMillis();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,45 @@
+package kitchenpos.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to the replica while it is fresh enough.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final ReplicaLagMonitor replicaLagMonitor
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.put(REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadConsistency.pin();
+            }
+            return PRIMARY;
+        }
+        if (ReadConsistency.isPinned() || !replicaLagMonitor.isFresh()) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
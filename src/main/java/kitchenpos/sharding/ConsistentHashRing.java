@@ -0,0 +1,51 @@
+package kitchenpos.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring with {@code virtualNodes} points per shard.
+ */
+public class ConsistentHashRing {
+    private final NavigableMap<Long, Shard> ring = new TreeMap<>();
+
+    public ConsistentHashRing(final List<Shard> shards, final int virtualNodes) {
+        if (shards.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException();
+        }
+        for (final Shard shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shard.getName() + "#" + i), shard);
+            }
+        }
+    }
+
+    public Shard route(final long key) {
+        final Map.Entry<Long, Shard> entry = ring.ceilingEntry(mix(key));
+        if (entry == null) {
+            return ring.firstEntry().getValue();
+        }
+        return entry.getValue();
+    }
+
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
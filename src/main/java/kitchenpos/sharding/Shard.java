@@ -0,0 +1,106 @@
+package kitchenpos.sharding;
+
+import kitchenpos.dao.JdbcTemplateOrderDao;
+import kitchenpos.dao.JdbcTemplateOrderLineItemDao;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * One shard of {@code orders}/{@code order_line_item}, with ids starting at {@code (index + 1) << 40}.
+ */
+public class Shard {
+    private static final int ID_RANGE_BITS = 40;
+
+    private final String name;
+    private final int index;
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplateOrderDao orderDao;
+    private final JdbcTemplateOrderLineItemDao orderLineItemDao;
+
+    public Shard(final String name, final int index, final DataSource dataSource) {
+        this.name = name;
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.orderDao = new JdbcTemplateOrderDao(dataSource);
+        this.orderLineItemDao = new JdbcTemplateOrderLineItemDao(dataSource);
+    }
+
+    public void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/shard")
+                .load()
+                .migrate();
+        reserveIdRange("orders", "id");
+        reserveIdRange("order_line_item", "seq");
+    }
+
+    private void reserveIdRange(final String table, final String column) {
+        final long first = (long) (index + 1) << ID_RANGE_BITS;
+        final long last = first + (1L << ID_RANGE_BITS) - 1;
+        final String sql = "SELECT COALESCE(MAX(" + column + "), 0) FROM " + table +
+                " WHERE " + column + " BETWEEN (:first) AND (:last)";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("first", first)
+                .addValue("last", last);
+        final Long max = jdbcTemplate.queryForObject(sql, parameters, Long.class);
+        final long next = Math.max(first, max + 1);
+        jdbcTemplate.getJdbcOperations()
+                .execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    public JdbcTemplateOrderDao orderDao() {
+        join();
+        return orderDao;
+    }
+
+    public JdbcTemplateOrderLineItemDao orderLineItemDao() {
+        join();
+        return orderLineItemDao;
+    }
+
+    public NamedParameterJdbcTemplate jdbcTemplate() {
+        join();
+        return jdbcTemplate;
+    }
+
+    private void join() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(dataSource)) {
+            return;
+        }
+        try {
+            final Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            final ConnectionHolder connectionHolder = new ConnectionHolder(connection);
+            connectionHolder.setSynchronizedWithTransaction(true);
+            TransactionSynchronizationManager.bindResource(dataSource, connectionHolder);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new ShardTransactionSynchronization(dataSource, connectionHolder));
+        } catch (final SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to join shard " + name, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+}
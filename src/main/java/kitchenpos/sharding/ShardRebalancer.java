@@ -0,0 +1,167 @@
+package kitchenpos.sharding;
+
+import kitchenpos.domain.Order;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Moves every order and its line items to the shard that owns its table.
+ */
+public class ShardRebalancer {
+    private static final String SELECT_ORDERS = "SELECT id, order_table_id, order_status, ordered_time FROM orders" +
+            " WHERE id > (:after) ORDER BY id LIMIT (:limit)";
+    private static final String SELECT_ORDER_LINE_ITEMS = "SELECT seq, order_id, menu_id, quantity FROM order_line_item" +
+            " WHERE order_id IN (:orderIds)";
+    private static final String MERGE_ORDER = "MERGE INTO orders (id, order_table_id, order_status, ordered_time)" +
+            " KEY (id) VALUES (:id, :orderTableId, :orderStatus, :orderedTime)";
+    private static final String MERGE_ORDER_LINE_ITEM = "MERGE INTO order_line_item (seq, order_id, menu_id, quantity)" +
+            " KEY (seq) VALUES (:seq, :orderId, :menuId, :quantity)";
+    private static final String DELETE_ORDER_LINE_ITEMS = "DELETE FROM order_line_item WHERE order_id IN (:orderIds)";
+    private static final String DELETE_ORDERS = "DELETE FROM orders WHERE id IN (:orderIds)";
+
+    private static final RowMapper<Order> ORDER_ROW_MAPPER = (resultSet, rowNumber) -> {
+        final Order order = new Order();
+        order.setId(resultSet.getLong("id"));
+        order.setOrderTableId(resultSet.getLong("order_table_id"));
+        order.setOrderStatus(resultSet.getString("order_status"));
+        order.setOrderedTime(resultSet.getObject("ordered_time", LocalDateTime.class));
+        return order;
+    };
+
+    private final Shards shards;
+    private final int batchSize;
+
+    public ShardRebalancer(final Shards shards, final int batchSize) {
+        this.shards = shards;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(final String[] args) {
+        final Map<String, String> options = parse(args);
+        final String username = options.getOrDefault("username", "sa");
+        final String password = options.getOrDefault("password", "");
+
+        final Map<Integer, String> shardOptions = new TreeMap<>();
+        options.forEach((key, value) -> {
+            if (key.startsWith("shard.")) {
+                shardOptions.put(Integer.parseInt(key.substring("shard.".length())), value);
+            }
+        });
+        final List<Shard> shardList = new ArrayList<>();
+        shardOptions.forEach((index, value) -> {
+            final int separator = value.indexOf(',');
+            final Shard shard = new Shard(value.substring(0, separator), index,
+                    new DriverManagerDataSource(value.substring(separator + 1), username, password));
+            shard.migrate();
+            shardList.add(shard);
+        });
+
+        final Shards shards = new Shards(shardList,
+                Integer.parseInt(options.getOrDefault("virtual-nodes", "128")), 0);
+        final ShardRebalancer rebalancer = new ShardRebalancer(shards,
+                Integer.parseInt(options.getOrDefault("batch-size", "1000")));
+        if (options.containsKey("source")) {
+            System.out.printf("Imported %d orders%n",
+                    rebalancer.importFrom(new DriverManagerDataSource(options.get("source"), username, password)));
+        }
+        System.out.printf("Moved %d orders%n", rebalancer.rebalance());
+    }
+
+    public long rebalance() {
+        long moved = 0;
+        for (final Shard shard : shards.all()) {
+            moved += drain(shard.getDataSource(), shard);
+        }
+        shards.forget();
+        return moved;
+    }
+
+    public long importFrom(final DataSource source) {
+        final long moved = drain(source, null);
+        shards.forget();
+        return moved;
+    }
+
+    private long drain(final DataSource source, final Shard current) {
+        final NamedParameterJdbcTemplate sourceJdbcTemplate = new NamedParameterJdbcTemplate(source);
+        final TransactionTemplate sourceTransaction = new TransactionTemplate(new DataSourceTransactionManager(source));
+        long moved = 0;
+        long after = 0;
+        while (true) {
+            final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("after", after)
+                    .addValue("limit", batchSize);
+            final List<Order> orders = sourceJdbcTemplate.query(SELECT_ORDERS, parameters, ORDER_ROW_MAPPER);
+            if (orders.isEmpty()) {
+                return moved;
+            }
+            after = orders.get(orders.size() - 1).getId();
+
+            final Map<Shard, List<Order>> misplaced = orders.stream()
+                    .filter(order -> !Objects.equals(shards.route(order.getOrderTableId()), current))
+                    .collect(Collectors.groupingBy(order -> shards.route(order.getOrderTableId())));
+            for (final Map.Entry<Shard, List<Order>> entry : misplaced.entrySet()) {
+                final List<Long> orderIds = entry.getValue().stream()
+                        .map(Order::getId)
+                        .collect(Collectors.toList());
+                final SqlParameterSource[] orderLineItems = sourceJdbcTemplate.queryForList(
+                        SELECT_ORDER_LINE_ITEMS, new MapSqlParameterSource("orderIds", orderIds)).stream()
+                        .map(this::toParameters)
+                        .toArray(SqlParameterSource[]::new);
+
+                final DataSource target = entry.getKey().getDataSource();
+                final NamedParameterJdbcTemplate targetJdbcTemplate = new NamedParameterJdbcTemplate(target);
+                new TransactionTemplate(new DataSourceTransactionManager(target)).executeWithoutResult(status -> {
+                    targetJdbcTemplate.batchUpdate(MERGE_ORDER, entry.getValue().stream()
+                            .map(BeanPropertySqlParameterSource::new)
+                            .toArray(SqlParameterSource[]::new));
+                    targetJdbcTemplate.batchUpdate(MERGE_ORDER_LINE_ITEM, orderLineItems);
+                });
+                sourceTransaction.executeWithoutResult(status -> {
+                    sourceJdbcTemplate.update(DELETE_ORDER_LINE_ITEMS, new MapSqlParameterSource("orderIds", orderIds));
+                    sourceJdbcTemplate.update(DELETE_ORDERS, new MapSqlParameterSource("orderIds", orderIds));
+                });
+                moved += orderIds.size();
+            }
+        }
+    }
+
+    private SqlParameterSource toParameters(final Map<String, Object> row) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("seq", row.get("seq"));
+        parameters.put("orderId", row.get("order_id"));
+        parameters.put("menuId", row.get("menu_id"));
+        parameters.put("quantity", row.get("quantity"));
+        return new MapSqlParameterSource(parameters);
+    }
+
+    private static Map<String, String> parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            final int separator = option.indexOf('=');
+            if (separator < 0) {
+                options.put(option, "true");
+            } else {
+                options.put(option.substring(0, separator), option.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,64 @@
+package kitchenpos.sharding;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Commits a shard's local transaction right before the application transaction.
+ */
+class ShardTransactionSynchronization extends TransactionSynchronizationAdapter {
+    private final DataSource dataSource;
+    private final ConnectionHolder connectionHolder;
+    private boolean committed;
+
+    ShardTransactionSynchronization(final DataSource dataSource, final ConnectionHolder connectionHolder) {
+        this.dataSource = dataSource;
+        this.connectionHolder = connectionHolder;
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResource(dataSource);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(dataSource, connectionHolder);
+    }
+
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        try {
+            connectionHolder.getConnection().commit();
+            committed = true;
+        } catch (final SQLException e) {
+            throw new DataAccessResourceFailureException("Failed to commit shard transaction", e);
+        }
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+        final Connection connection = connectionHolder.getConnection();
+        try {
+            if (!committed) {
+                connection.rollback();
+            }
+            connection.setAutoCommit(true);
+        } catch (final SQLException ignored) {
+        } finally {
+            connectionHolder.released();
+            connectionHolder.clear();
+            try {
+                connection.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.sharding;
+
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.Order;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class ShardedOrderDao implements OrderDao {
+    private final Shards shards;
+
+    public ShardedOrderDao(final Shards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Order save(final Order entity) {
+        final Shard shard = shards.route(entity.getOrderTableId());
+        final Order savedOrder = shard.orderDao().save(entity);
+        shards.remember(savedOrder.getId(), shard);
+        return savedOrder;
+    }
+
+    @Override
+    public List<Order> saveAll(final List<Order> entities) {
+        final Map<Shard, List<Order>> entitiesByShard = entities.stream()
+                .collect(Collectors.groupingBy(entity -> shards.route(entity.getOrderTableId())));
+        for (final Map.Entry<Shard, List<Order>> entry : entitiesByShard.entrySet()) {
+            for (final Order savedOrder : entry.getKey().orderDao().saveAll(entry.getValue())) {
+                shards.remember(savedOrder.getId(), entry.getKey());
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public Optional<Order> findById(final Long id) {
+        return shards.locate(id)
+                .flatMap(shard -> shard.orderDao().findById(id));
+    }
+
+    @Override
+    public List<Order> findAll() {
+        final List<Order> orders = new ArrayList<>();
+        for (final Shard shard : shards.all()) {
+            orders.addAll(shard.orderDao().findAll());
+        }
+        return orders;
+    }
+
+    @Override
+    public void findAllWithOrderLineItems(final Consumer<Order> action) {
+        for (final Shard shard : shards.all()) {
+            shard.orderDao().findAllWithOrderLineItems(action);
+        }
+    }
+
+    @Override
+    public void findAll(final Collection<String> fields, final Consumer<Order> action) {
+        for (final Shard shard : shards.all()) {
+            shard.orderDao().findAll(fields, action);
+        }
+    }
+
+    @Override
+    public boolean existsByOrderTableIdAndOrderStatusIn(final Long orderTableId, final List<String> orderStatuses) {
+        return shards.route(orderTableId).orderDao()
+                .existsByOrderTableIdAndOrderStatusIn(orderTableId, orderStatuses);
+    }
+
+    @Override
+    public boolean existsByOrderTableIdInAndOrderStatusIn(final List<Long> orderTableIds, final List<String> orderStatuses) {
+        final Map<Shard, List<Long>> orderTableIdsByShard = orderTableIds.stream()
+                .collect(Collectors.groupingBy(shards::route));
+        for (final Map.Entry<Shard, List<Long>> entry : orderTableIdsByShard.entrySet()) {
+            if (entry.getKey().orderDao().existsByOrderTableIdInAndOrderStatusIn(entry.getValue(), orderStatuses)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package kitchenpos.sharding;
+
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.PrepItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class ShardedOrderLineItemDao implements OrderLineItemDao {
+    private final Shards shards;
+
+    public ShardedOrderLineItemDao(final Shards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public OrderLineItem save(final OrderLineItem entity) {
+        return locate(entity.getOrderId()).orderLineItemDao().save(entity);
+    }
+
+    @Override
+    public void saveAll(final List<OrderLineItem> entities) {
+        final Map<Long, List<OrderLineItem>> entitiesByOrderId = entities.stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId));
+        for (final Map.Entry<Long, List<OrderLineItem>> entry : entitiesByOrderId.entrySet()) {
+            locate(entry.getKey()).orderLineItemDao().saveAll(entry.getValue());
+        }
+    }
+
+    @Override
+    public Optional<OrderLineItem> findById(final Long id) {
+        for (final Shard shard : shards.all()) {
+            final Optional<OrderLineItem> orderLineItem = shard.orderLineItemDao().findById(id);
+            if (orderLineItem.isPresent()) {
+                return orderLineItem;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<OrderLineItem> findAll() {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Shard shard : shards.all()) {
+            orderLineItems.addAll(shard.orderLineItemDao().findAll());
+        }
+        return orderLineItems;
+    }
+
+    @Override
+    public List<OrderLineItem> findAllByOrderId(final Long orderId) {
+        return shards.locate(orderId)
+                .map(shard -> shard.orderLineItemDao().findAllByOrderId(orderId))
+                .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public List<OrderLineItem> findAllByOrderIdIn(final List<Long> orderIds) {
+        final Map<Shard, List<Long>> orderIdsByShard = new HashMap<>();
+        for (final Long orderId : orderIds) {
+            shards.locate(orderId).ifPresent(shard ->
+                    orderIdsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(orderId));
+        }
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Map.Entry<Shard, List<Long>> entry : orderIdsByShard.entrySet()) {
+            orderLineItems.addAll(entry.getKey().orderLineItemDao().findAllByOrderIdIn(entry.getValue()));
+        }
+        return orderLineItems;
+    }
+
+    @Override
+    public List<PrepItem> sumQuantityGroupByMenuIdByOrderStatus(final String orderStatus) {
+        final Map<Long, PrepItem> prepItems = new TreeMap<>();
+        for (final Shard shard : shards.all()) {
+            for (final PrepItem prepItem : shard.orderLineItemDao().sumQuantityGroupByMenuIdByOrderStatus(orderStatus)) {
+                prepItems.merge(prepItem.getMenuId(), prepItem, (left, right) -> {
+                    left.setQuantity(left.getQuantity() + right.getQuantity());
+                    return left;
+                });
+            }
+        }
+        return new ArrayList<>(prepItems.values());
+    }
+
+    private Shard locate(final Long orderId) {
+        return shards.locate(orderId)
+                .orElseThrow(IllegalArgumentException::new);
+    }
+}
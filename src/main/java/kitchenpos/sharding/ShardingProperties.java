@@ -0,0 +1,107 @@
+package kitchenpos.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shards are listed in order; a shard's position fixes its id range, so new shards must
+ * be appended and existing entries never reordered.
+ */
+@ConfigurationProperties(prefix = "kitchenpos.sharding")
+public class ShardingProperties {
+    private boolean enabled;
+    private boolean allowUnshardedSideEffects;
+    private int virtualNodes = 128;
+    private int locationCacheSize = 10000;
+    private List<ShardSettings> shards = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isAllowUnshardedSideEffects() {
+        return allowUnshardedSideEffects;
+    }
+
+    public void setAllowUnshardedSideEffects(final boolean allowUnshardedSideEffects) {
+        this.allowUnshardedSideEffects = allowUnshardedSideEffects;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(final int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public int getLocationCacheSize() {
+        return locationCacheSize;
+    }
+
+    public void setLocationCacheSize(final int locationCacheSize) {
+        this.locationCacheSize = locationCacheSize;
+    }
+
+    public List<ShardSettings> getShards() {
+        return shards;
+    }
+
+    public void setShards(final List<ShardSettings> shards) {
+        this.shards = shards;
+    }
+
+    public static class ShardSettings {
+        private String name;
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private int connections = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(final String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(final String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(final String password) {
+            this.password = password;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public void setConnections(final int connections) {
+            this.connections = connections;
+        }
+    }
+}
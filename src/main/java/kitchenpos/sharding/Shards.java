@@ -0,0 +1,59 @@
+package kitchenpos.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The shard set with its ring, plus a bounded cache of which shard holds an order so line
+ * items, which only carry their order id, can be routed without asking every shard.
+ */
+public class Shards {
+    private final List<Shard> shards;
+    private final ConsistentHashRing ring;
+    private final Map<Long, Shard> orderLocations;
+
+    public Shards(final List<Shard> shards, final int virtualNodes, final int locationCacheSize) {
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+        this.ring = new ConsistentHashRing(shards, virtualNodes);
+        this.orderLocations = Collections.synchronizedMap(new LinkedHashMap<Long, Shard>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Shard> eldest) {
+                return size() > locationCacheSize;
+            }
+        });
+    }
+
+    public Shard route(final Long orderTableId) {
+        return ring.route(orderTableId);
+    }
+
+    public Optional<Shard> locate(final Long orderId) {
+        final Shard cached = orderLocations.get(orderId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        for (final Shard shard : shards) {
+            if (shard.orderDao().findById(orderId).isPresent()) {
+                remember(orderId, shard);
+                return Optional.of(shard);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void remember(final Long orderId, final Shard shard) {
+        orderLocations.put(orderId, shard);
+    }
+
+    public void forget() {
+        orderLocations.clear();
+    }
+
+    public List<Shard> all() {
+        return shards;
+    }
+}
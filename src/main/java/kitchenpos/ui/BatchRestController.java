@@ -0,0 +1,25 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.BatchService;
+import kitchenpos.domain.BatchRequest;
+import kitchenpos.domain.BatchResult;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class BatchRestController {
+    private final BatchService batchService;
+
+    public BatchRestController(final BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @PostMapping("/api/batch")
+    public ResponseEntity<BatchResult> execute(@RequestBody final BatchRequest batchRequest) {
+        return ResponseEntity.ok()
+                .body(batchService.execute(batchRequest))
+                ;
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Trims list elements down to the fields requested with {@code fields=}.
+ */
+@Component
+public class FieldProjector {
+    private final ObjectMapper objectMapper;
+
+    public FieldProjector(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public List<ObjectNode> project(final List<?> elements, final Collection<String> fields) {
+        return elements.stream()
+                .map(element -> project(element, fields))
+                .collect(Collectors.toList());
+    }
+
+    public <T> Consumer<T> projecting(final Collection<String> fields, final Consumer<ObjectNode> action) {
+        return element -> action.accept(project(element, fields));
+    }
+
+    private ObjectNode project(final Object element, final Collection<String> fields) {
+        final ObjectNode node = objectMapper.valueToTree(element);
+        return node.retain(fields);
+    }
+}
@@ -0,0 +1,102 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Streams an array to the response as the elements arrive.
+ */
+@Component
+public class JsonArrayStreamer {
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final Map<MediaType, ObjectMapper> objectMappers = new LinkedHashMap<>();
+
+    public JsonArrayStreamer(
+            final ObjectMapper objectMapper,
+            final MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+            final MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter
+    ) {
+        objectMappers.put(MediaType.APPLICATION_JSON, objectMapper);
+        register(cborHttpMessageConverter);
+        register(smileHttpMessageConverter);
+    }
+
+    public <T> void stream(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Consumer<Consumer<T>> source
+    ) throws IOException {
+        final Map.Entry<MediaType, ObjectMapper> format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        response.setContentType(format.getKey().toString());
+        final JsonGenerator generator = format.getValue().getFactory().createGenerator(response.getOutputStream());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartArray();
+        source.accept(new Consumer<T>() {
+            private int count;
+
+            @Override
+            public void accept(final T element) {
+                try {
+                    generator.writeObject(element);
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    private void register(final AbstractJackson2HttpMessageConverter converter) {
+        objectMappers.put(converter.getSupportedMediaTypes().get(0), converter.getObjectMapper());
+    }
+
+    private Map.Entry<MediaType, ObjectMapper> negotiate(final String accept) {
+        for (final MediaType acceptable : acceptableMediaTypes(accept)) {
+            for (final Map.Entry<MediaType, ObjectMapper> format : objectMappers.entrySet()) {
+                if (acceptable.isCompatibleWith(format.getKey())) {
+                    return format;
+                }
+            }
+        }
+        return objectMappers.entrySet()
+                .iterator()
+                .next();
+    }
+
+    private List<MediaType> acceptableMediaTypes(final String accept) {
+        if (Objects.isNull(accept)) {
+            return Collections.emptyList();
+        }
+        try {
+            final List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(mediaTypes);
+            return mediaTypes;
+        } catch (final InvalidMediaTypeException e) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -1,22 +1,36 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final FieldProjector fieldProjector;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+            final MenuService menuService,
+            final JsonArrayStreamer jsonArrayStreamer,
+            final FieldProjector fieldProjector
+    ) {
         this.menuService = menuService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.fieldProjector = fieldProjector;
     }
 
     @PostMapping("/api/menus")
@@ -34,4 +48,29 @@ public class MenuRestController {
                 .body(menuService.list())
                 ;
     }
+
+    @GetMapping(value = "/api/menus", params = {"fields", "stream!=true"})
+    public ResponseEntity<List<ObjectNode>> list(@RequestParam final List<String> fields) {
+        return ResponseEntity.ok()
+                .body(fieldProjector.project(menuService.list(fields), fields))
+                ;
+    }
+
+    @GetMapping(value = "/api/menus", params = "stream=true")
+    public ResponseEntity<Void> stream(
+            @RequestParam(required = false) final List<String> fields,
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        if (Objects.isNull(fields)) {
+            jsonArrayStreamer.<Menu>stream(request, response, menuService::list);
+        } else {
+            menuService.validateFields(fields);
+            jsonArrayStreamer.<ObjectNode>stream(request, response,
+                    action -> menuService.list(fields, fieldProjector.projecting(fields, action)));
+        }
+        return ResponseEntity.ok()
+                .build()
+                ;
+    }
 }
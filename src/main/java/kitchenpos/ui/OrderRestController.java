@@ -1,24 +1,68 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import kitchenpos.application.IdempotentOrderService;
+import kitchenpos.application.JournaledOrderService;
+import kitchenpos.application.OrderIntakePipeline;
 import kitchenpos.application.OrderService;
 import kitchenpos.domain.Order;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 public class OrderRestController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final JournaledOrderService journaledOrderService;
+    private final OrderIntakePipeline orderIntakePipeline;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final FieldProjector fieldProjector;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final IdempotentOrderService idempotentOrderService,
+            final ObjectProvider<JournaledOrderService> journaledOrderService,
+            final ObjectProvider<OrderIntakePipeline> orderIntakePipeline,
+            final JsonArrayStreamer jsonArrayStreamer,
+            final FieldProjector fieldProjector
+    ) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.journaledOrderService = journaledOrderService.getIfAvailable();
+        this.orderIntakePipeline = orderIntakePipeline.getIfAvailable();
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.fieldProjector = fieldProjector;
     }
 
     @PostMapping("/api/orders")
-    public ResponseEntity<Order> create(@RequestBody final Order order) {
-        final Order created = orderService.create(order);
+    public ResponseEntity<?> create(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+            @RequestBody final Order order
+    ) {
+        if (Objects.nonNull(journaledOrderService)) {
+            return ResponseEntity.accepted()
+                    .body(journaledOrderService.accept(idempotencyKey, order))
+                    ;
+        }
+
+        final Order created;
+        if (Objects.nonNull(idempotencyKey)) {
+            created = idempotentOrderService.create(idempotencyKey, order);
+        } else if (Objects.nonNull(orderIntakePipeline)) {
+            created = orderIntakePipeline.create(order);
+        } else {
+            created = orderService.create(order);
+        }
         final URI uri = URI.create("/api/orders/" + created.getId());
         return ResponseEntity.created(uri)
                 .body(created)
@@ -32,6 +76,31 @@ public class OrderRestController {
                 ;
     }
 
+    @GetMapping(value = "/api/orders", params = {"fields", "stream!=true"})
+    public ResponseEntity<List<ObjectNode>> list(@RequestParam final List<String> fields) {
+        return ResponseEntity.ok()
+                .body(fieldProjector.project(orderService.list(fields), fields))
+                ;
+    }
+
+    @GetMapping(value = "/api/orders", params = "stream=true")
+    public ResponseEntity<Void> stream(
+            @RequestParam(required = false) final List<String> fields,
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        if (Objects.isNull(fields)) {
+            jsonArrayStreamer.<Order>stream(request, response, orderService::list);
+        } else {
+            orderService.validateFields(fields);
+            jsonArrayStreamer.<ObjectNode>stream(request, response,
+                    action -> orderService.list(fields, fieldProjector.projecting(fields, action)));
+        }
+        return ResponseEntity.ok()
+                .build()
+                ;
+    }
+
     @PutMapping("/api/orders/{orderId}/order-status")
     public ResponseEntity<Order> changeOrderStatus(
             @PathVariable final Long orderId,
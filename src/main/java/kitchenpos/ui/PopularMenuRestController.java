@@ -0,0 +1,30 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.PopularMenuService;
+import kitchenpos.domain.PopularMenu;
+import kitchenpos.domain.PopularityWindow;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class PopularMenuRestController {
+    private final PopularMenuService popularMenuService;
+
+    public PopularMenuRestController(final PopularMenuService popularMenuService) {
+        this.popularMenuService = popularMenuService;
+    }
+
+    @GetMapping("/api/menus/popular")
+    public ResponseEntity<List<PopularMenu>> list(
+            @RequestParam(defaultValue = "RECENT") final PopularityWindow window,
+            @RequestParam(defaultValue = "10") final int size
+    ) {
+        return ResponseEntity.ok()
+                .body(popularMenuService.list(window, size))
+                ;
+    }
+}
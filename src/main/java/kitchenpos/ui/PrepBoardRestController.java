@@ -0,0 +1,25 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.PrepBoardService;
+import kitchenpos.domain.PrepItem;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class PrepBoardRestController {
+    private final PrepBoardService prepBoardService;
+
+    public PrepBoardRestController(final PrepBoardService prepBoardService) {
+        this.prepBoardService = prepBoardService;
+    }
+
+    @GetMapping("/api/prep-board")
+    public ResponseEntity<List<PrepItem>> list() {
+        return ResponseEntity.ok()
+                .body(prepBoardService.list())
+                ;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.RunningBillService;
+import kitchenpos.domain.RunningBill;
+import kitchenpos.domain.TableGroupBill;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class RunningBillRestController {
+    private final RunningBillService runningBillService;
+
+    public RunningBillRestController(final RunningBillService runningBillService) {
+        this.runningBillService = runningBillService;
+    }
+
+    @GetMapping("/api/tables/{orderTableId}/bill")
+    public ResponseEntity<RunningBill> find(@PathVariable final Long orderTableId) {
+        return ResponseEntity.ok()
+                .body(runningBillService.find(orderTableId))
+                ;
+    }
+
+    @GetMapping("/api/table-groups/{tableGroupId}/bill")
+    public ResponseEntity<TableGroupBill> findByTableGroupId(@PathVariable final Long tableGroupId) {
+        return ResponseEntity.ok()
+                .body(runningBillService.findByTableGroupId(tableGroupId))
+                ;
+    }
+}
@@ -0,0 +1,47 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SalesAggregateService;
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+public class SalesReportRestController {
+    private final SalesAggregateService salesAggregateService;
+
+    public SalesReportRestController(final SalesAggregateService salesAggregateService) {
+        this.salesAggregateService = salesAggregateService;
+    }
+
+    @GetMapping("/api/reports/sales/menus")
+    public ResponseEntity<List<MenuSales>> listMenuSales() {
+        return ResponseEntity.ok()
+                .body(salesAggregateService.listMenuSales())
+                ;
+    }
+
+    @GetMapping("/api/reports/sales/menu-groups")
+    public ResponseEntity<List<MenuGroupSales>> listMenuGroupSales() {
+        return ResponseEntity.ok()
+                .body(salesAggregateService.listMenuGroupSales())
+                ;
+    }
+
+    @GetMapping("/api/reports/sales/hours")
+    public ResponseEntity<List<HourlySales>> listHourlySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok()
+                .body(salesAggregateService.listHourlySales(from, to))
+                ;
+    }
+}
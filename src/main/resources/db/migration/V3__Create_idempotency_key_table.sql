@@ -0,0 +1,9 @@
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body CLOB NOT NULL,
+    created_date DATETIME NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX ix_idempotency_key_created_date ON idempotency_key (created_date);
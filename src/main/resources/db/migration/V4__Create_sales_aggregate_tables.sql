@@ -0,0 +1,54 @@
+CREATE TABLE menu_sales (
+    menu_id BIGINT(20) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    revenue DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (menu_id)
+);
+
+CREATE TABLE menu_group_sales (
+    menu_group_id BIGINT(20) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    revenue DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (menu_group_id)
+);
+
+CREATE TABLE hourly_sales (
+    hour_bucket DATETIME NOT NULL,
+    order_count BIGINT(20) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    revenue DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (hour_bucket)
+);
+
+ALTER TABLE menu_sales
+    ADD CONSTRAINT fk_menu_sales_menu
+        FOREIGN KEY (menu_id) REFERENCES menu (id);
+
+ALTER TABLE menu_group_sales
+    ADD CONSTRAINT fk_menu_group_sales_menu_group
+        FOREIGN KEY (menu_group_id) REFERENCES menu_group (id);
+
+INSERT INTO menu_sales (menu_id, quantity, revenue)
+SELECT oli.menu_id, SUM(oli.quantity), SUM(oli.quantity * m.price)
+FROM order_line_item oli
+         JOIN orders o ON o.id = oli.order_id
+         JOIN menu m ON m.id = oli.menu_id
+WHERE o.order_status = 'COMPLETION'
+GROUP BY oli.menu_id;
+
+INSERT INTO menu_group_sales (menu_group_id, quantity, revenue)
+SELECT m.menu_group_id, SUM(oli.quantity), SUM(oli.quantity * m.price)
+FROM order_line_item oli
+         JOIN orders o ON o.id = oli.order_id
+         JOIN menu m ON m.id = oli.menu_id
+WHERE o.order_status = 'COMPLETION'
+GROUP BY m.menu_group_id;
+
+INSERT INTO hourly_sales (hour_bucket, order_count, quantity, revenue)
+SELECT PARSEDATETIME(FORMATDATETIME(o.ordered_time, 'yyyy-MM-dd HH'), 'yyyy-MM-dd HH'),
+       COUNT(DISTINCT o.id), SUM(oli.quantity), SUM(oli.quantity * m.price)
+FROM order_line_item oli
+         JOIN orders o ON o.id = oli.order_id
+         JOIN menu m ON m.id = oli.menu_id
+WHERE o.order_status = 'COMPLETION'
+GROUP BY PARSEDATETIME(FORMATDATETIME(o.ordered_time, 'yyyy-MM-dd HH'), 'yyyy-MM-dd HH');
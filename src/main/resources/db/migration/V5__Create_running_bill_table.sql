@@ -0,0 +1,21 @@
+CREATE TABLE running_bill (
+    order_table_id BIGINT(20) NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    order_count BIGINT(20) NOT NULL,
+    open_order_count BIGINT(20) NOT NULL,
+    PRIMARY KEY (order_table_id)
+);
+
+ALTER TABLE running_bill
+    ADD CONSTRAINT fk_running_bill_order_table
+        FOREIGN KEY (order_table_id) REFERENCES order_table (id);
+
+INSERT INTO running_bill (order_table_id, amount, order_count, open_order_count)
+SELECT o.order_table_id, SUM(oli.quantity * m.price), COUNT(DISTINCT o.id), COUNT(DISTINCT o.id)
+FROM orders o
+         JOIN order_table ot ON ot.id = o.order_table_id
+         JOIN order_line_item oli ON oli.order_id = o.id
+         JOIN menu m ON m.id = oli.menu_id
+WHERE ot.empty = FALSE
+  AND o.order_status <> 'COMPLETION'
+GROUP BY o.order_table_id;
@@ -0,0 +1,7 @@
+CREATE TABLE replication_heartbeat (
+    id BIGINT(20) NOT NULL,
+    beat_at BIGINT(20) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, 0);
@@ -0,0 +1,11 @@
+CREATE TABLE outbox_event (
+    id BIGINT(20) NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id BIGINT(20) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload CLOB NOT NULL,
+    created_date DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_outbox_event_created_date ON outbox_event (created_date);
@@ -0,0 +1,39 @@
+package kitchenpos.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlInterceptorTest {
+    private final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(
+            "orders", 20, 2, 100, Duration.ofSeconds(10), 0.5);
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(limiter, Duration.ofSeconds(1));
+
+    @Test
+    void rejectedRequestsDoNotShrinkTheLimit() {
+        for (int i = 0; i < 20; i++) {
+            complete(new IllegalArgumentException(), 500);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void serverFaultsShrinkTheLimit() {
+        complete(new IllegalStateException(), 500);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private void complete(final Exception ex, final int status) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, new Object(), ex);
+    }
+}
@@ -0,0 +1,174 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.dao.IdempotencyKeyDao;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotentOrderServiceTest {
+    private static final String KEY = "key-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        when(orderService.create(any(Order.class))).thenReturn(created(1L));
+    }
+
+    @Test
+    void replaysTheStoredResponse() {
+        final IdempotentOrderService idempotentOrderService = idempotentOrderService(new MapIdempotencyKeyDao());
+
+        final Order first = idempotentOrderService.create(KEY, order(1L));
+        final Order replayed = idempotentOrderService.create(KEY, order(1L));
+
+        assertThat(replayed.getId()).isEqualTo(first.getId());
+        verify(orderService, times(1)).create(any(Order.class));
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() {
+        final IdempotentOrderService idempotentOrderService = idempotentOrderService(new MapIdempotencyKeyDao());
+        idempotentOrderService.create(KEY, order(1L));
+
+        assertThatThrownBy(() -> idempotentOrderService.create(KEY, order(2L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void joinsARequestThatIsStillInFlight() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(orderService.create(any(Order.class))).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return created(1L);
+        });
+        final IdempotentOrderService idempotentOrderService = idempotentOrderService(new MapIdempotencyKeyDao());
+
+        final CompletableFuture<Order> first = CompletableFuture.supplyAsync(() -> idempotentOrderService.create(KEY, order(1L)));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        final AtomicReference<Order> joined = new AtomicReference<>();
+        final Thread second = new Thread(() -> joined.set(idempotentOrderService.create(KEY, order(1L))));
+        second.start();
+        while (second.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        second.join(5_000);
+
+        assertThat(joined.get().getId()).isEqualTo(first.get(5, TimeUnit.SECONDS).getId());
+        verify(orderService, times(1)).create(any(Order.class));
+    }
+
+    @Test
+    void returnsTheWinnersResponseOnADuplicateKey() throws Exception {
+        final IdempotencyKeyDao seeded = new MapIdempotencyKeyDao();
+        idempotentOrderService(seeded).create("seed", order(1L));
+        final IdempotencyKey winner = new IdempotencyKey();
+        winner.setIdempotencyKey(KEY);
+        winner.setRequestHash(seeded.findById("seed").get().getRequestHash());
+        winner.setResponseBody(objectMapper.writeValueAsString(created(7L)));
+        winner.setCreatedDate(LocalDateTime.now());
+        final IdempotencyKeyDao idempotencyKeyDao = mock(IdempotencyKeyDao.class);
+        when(idempotencyKeyDao.findById(anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(idempotencyKeyDao.save(any(IdempotencyKey.class)))
+                .thenThrow(new DuplicateKeyException(KEY));
+
+        final Order order = idempotentOrderService(idempotencyKeyDao).create(KEY, order(1L));
+
+        assertThat(order.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void replacesAnExpiredKeyThatWasNotPurgedYet() {
+        final IdempotencyKeyDao idempotencyKeyDao = new MapIdempotencyKeyDao();
+        final IdempotencyKey expired = new IdempotencyKey();
+        expired.setIdempotencyKey(KEY);
+        expired.setRequestHash("stale");
+        expired.setResponseBody("{}");
+        expired.setCreatedDate(LocalDateTime.now().minusHours(2));
+        idempotencyKeyDao.save(expired);
+
+        final Order order = idempotentOrderService(idempotencyKeyDao).create(KEY, order(2L));
+
+        assertThat(order.getId()).isEqualTo(1L);
+        assertThat(idempotencyKeyDao.findById(KEY)).hasValueSatisfying(found ->
+                assertThat(found.getCreatedDate()).isAfter(expired.getCreatedDate()));
+    }
+
+    private IdempotentOrderService idempotentOrderService(final IdempotencyKeyDao idempotencyKeyDao) {
+        return new IdempotentOrderService(orderService, idempotencyKeyDao,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), objectMapper, Duration.ofHours(1), 100);
+    }
+
+    private Order order(final Long menuId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setQuantity(1);
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderLineItems(Collections.singletonList(orderLineItem));
+        return order;
+    }
+
+    private Order created(final Long id) {
+        final Order order = new Order();
+        order.setId(id);
+        return order;
+    }
+
+    private static class MapIdempotencyKeyDao implements IdempotencyKeyDao {
+        private final Map<String, IdempotencyKey> rows = new ConcurrentHashMap<>();
+
+        @Override
+        public IdempotencyKey save(final IdempotencyKey entity) {
+            if (rows.putIfAbsent(entity.getIdempotencyKey(), entity) != null) {
+                throw new DuplicateKeyException(entity.getIdempotencyKey());
+            }
+            return entity;
+        }
+
+        @Override
+        public Optional<IdempotencyKey> findById(final String idempotencyKey) {
+            return Optional.ofNullable(rows.get(idempotencyKey));
+        }
+
+        @Override
+        public int deleteAllByCreatedDateBefore(final LocalDateTime createdDate) {
+            final int size = rows.size();
+            rows.values().removeIf(row -> row.getCreatedDate().isBefore(createdDate));
+            return size - rows.size();
+        }
+    }
+}
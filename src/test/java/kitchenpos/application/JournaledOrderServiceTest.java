@@ -0,0 +1,81 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderReceipt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JournaledOrderServiceTest {
+    @TempDir
+    Path directory;
+
+    private JournaledOrderService journaledOrderService;
+
+    @AfterEach
+    void tearDown() {
+        journaledOrderService.stop();
+    }
+
+    @Test
+    void retriesARecordWhoseApplyFailed() {
+        final IdempotentOrderService idempotentOrderService = mock(IdempotentOrderService.class);
+        when(idempotentOrderService.create(any(), any(Order.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(new Order());
+        start(mock(OrderService.class), idempotentOrderService);
+
+        final OrderReceipt first = journaledOrderService.accept(null, order());
+        final OrderReceipt second = journaledOrderService.accept(null, order());
+
+        assertThat(first.getIdempotencyKey()).isNotEqualTo(second.getIdempotencyKey());
+        verify(idempotentOrderService, timeout(5_000).times(2)).create(eq(first.getIdempotencyKey()), any(Order.class));
+        verify(idempotentOrderService, timeout(5_000).times(1)).create(eq(second.getIdempotencyKey()), any(Order.class));
+    }
+
+    @Test
+    void rejectsAnInvalidOrderBeforeJournalingIt() {
+        final OrderService orderService = mock(OrderService.class);
+        doThrow(new IllegalArgumentException()).doNothing().when(orderService).validate(any(Order.class));
+        start(orderService, mock(IdempotentOrderService.class));
+
+        assertThatThrownBy(() -> journaledOrderService.accept(null, order()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(journaledOrderService.accept(null, order()).getSequence()).isEqualTo(1L);
+    }
+
+    private void start(final OrderService orderService, final IdempotentOrderService idempotentOrderService) {
+        journaledOrderService = new JournaledOrderService(orderService, idempotentOrderService, new ObjectMapper(),
+                new SimpleMeterRegistry(), directory.toString(), 1024, 8, Duration.ZERO, 16,
+                Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofSeconds(5));
+        journaledOrderService.start();
+    }
+
+    private Order order() {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(1L);
+        orderLineItem.setQuantity(1);
+        final Order order = new Order();
+        order.setOrderTableId(1L);
+        order.setOrderLineItems(Collections.singletonList(orderLineItem));
+        return order;
+    }
+}
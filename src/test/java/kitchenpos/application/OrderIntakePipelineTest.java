@@ -0,0 +1,47 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.Order;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderIntakePipelineTest {
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderIntakePipeline orderIntakePipeline = new OrderIntakePipeline(
+            orderService, new SimpleMeterRegistry(), Duration.ofMillis(1), 8, Duration.ofSeconds(5));
+
+    @Test
+    void batchesOrdersWhileRunning() {
+        final Order saved = new Order();
+        when(orderService.createAll(anyList())).thenReturn(Collections.singletonList(saved));
+        orderIntakePipeline.start();
+
+        try {
+            assertThat(orderIntakePipeline.create(new Order())).isSameAs(saved);
+        } finally {
+            orderIntakePipeline.stop();
+        }
+        verify(orderService, never()).create(any(Order.class));
+    }
+
+    @Test
+    void createsDirectlyOnceStopped() {
+        final Order saved = new Order();
+        when(orderService.create(any(Order.class))).thenReturn(saved);
+        orderIntakePipeline.start();
+        orderIntakePipeline.stop();
+
+        assertThat(orderIntakePipeline.create(new Order())).isSameAs(saved);
+        verify(orderService, never()).createAll(anyList());
+    }
+}
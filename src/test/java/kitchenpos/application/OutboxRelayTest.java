@@ -0,0 +1,100 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.dao.OutboxEventDao;
+import kitchenpos.domain.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+    private final List<OutboxSink> sinks = new ArrayList<>();
+    private OutboxEventDao outboxEventDao;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        final ObjectProvider<OutboxSink> outboxSinks = mock(ObjectProvider.class);
+        when(outboxSinks.orderedStream()).thenAnswer(invocation -> new ArrayList<>(sinks).stream());
+        outboxEventDao = new MapOutboxEventDao();
+        outboxRelay = new OutboxRelay(outboxEventDao, outboxSinks, new SimpleMeterRegistry(), 10);
+        outboxEventDao.save(event());
+    }
+
+    @Test
+    void eventsSurviveUntilASinkAcceptsThem() {
+        outboxRelay.relay();
+        assertThat(outboxEventDao.count()).isEqualTo(1);
+
+        sinks.add(events -> {
+            throw new IllegalStateException("sink unavailable");
+        });
+        outboxRelay.relay();
+        assertThat(outboxEventDao.count()).isEqualTo(1);
+
+        final List<OutboxEvent> delivered = new ArrayList<>();
+        sinks.set(0, delivered::addAll);
+        outboxRelay.relay();
+        assertThat(delivered).hasSize(1);
+        assertThat(outboxEventDao.count()).isZero();
+    }
+
+    private OutboxEvent event() {
+        final OutboxEvent event = new OutboxEvent();
+        event.setAggregateType("order");
+        event.setAggregateId(1L);
+        event.setEventType("OrderCreated");
+        event.setPayload("{}");
+        event.setCreatedDate(LocalDateTime.now());
+        return event;
+    }
+
+    private static class MapOutboxEventDao implements OutboxEventDao {
+        private final ConcurrentSkipListMap<Long, OutboxEvent> rows = new ConcurrentSkipListMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public OutboxEvent save(final OutboxEvent entity) {
+            entity.setId(sequence.incrementAndGet());
+            rows.put(entity.getId(), entity);
+            return entity;
+        }
+
+        @Override
+        public List<OutboxEvent> findFirstOrderById(final int limit) {
+            return rows.values().stream()
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public long count() {
+            return rows.size();
+        }
+
+        @Override
+        public Optional<LocalDateTime> findMinCreatedDate() {
+            return rows.values().stream()
+                    .map(OutboxEvent::getCreatedDate)
+                    .min(LocalDateTime::compareTo);
+        }
+
+        @Override
+        public void deleteAllByIdIn(final List<Long> ids) {
+            ids.forEach(rows::remove);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.RunningBill;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RunningBillBackfillTest {
+    private static final String RUNNING_BILL_MIGRATION = "db/migration/V5__Create_running_bill_table.sql";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private RunningBillService runningBillService;
+
+    @Test
+    void backfillMatchesIncrementalBillOfTheCurrentSeating() throws IOException {
+        final Long orderTableId = tableService.create(orderTable(false)).getId();
+        final Order previousSeating = orderService.create(order(orderTableId, 1L, 2L));
+        final Order status = new Order();
+        status.setOrderStatus(OrderStatus.COMPLETION.name());
+        orderService.changeOrderStatus(previousSeating.getId(), status);
+        tableService.changeEmpty(orderTableId, orderTable(true));
+        tableService.changeEmpty(orderTableId, orderTable(false));
+        orderService.create(order(orderTableId, 3L));
+        orderService.create(order(orderTableId, 4L));
+        final RunningBill incremental = runningBillService.find(orderTableId);
+
+        backfill();
+        final RunningBill backfilled = runningBillService.find(orderTableId);
+
+        assertThat(incremental.getOrderCount()).isEqualTo(2);
+        assertThat(backfilled.getAmount()).isEqualByComparingTo(incremental.getAmount());
+        assertThat(backfilled.getOrderCount()).isEqualTo(incremental.getOrderCount());
+        assertThat(backfilled.getOpenOrderCount()).isEqualTo(incremental.getOpenOrderCount());
+    }
+
+    private void backfill() throws IOException {
+        final String migration = StreamUtils.copyToString(
+                new ClassPathResource(RUNNING_BILL_MIGRATION).getInputStream(), StandardCharsets.UTF_8);
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM running_bill");
+        jdbcTemplate.update(migration.substring(migration.indexOf("INSERT INTO running_bill")).replace(";", ""));
+    }
+
+    private OrderTable orderTable(final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(empty);
+        return orderTable;
+    }
+
+    private Order order(final Long orderTableId, final Long... menuIds) {
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(Arrays.stream(menuIds)
+                .map(menuId -> {
+                    final OrderLineItem orderLineItem = new OrderLineItem();
+                    orderLineItem.setMenuId(menuId);
+                    orderLineItem.setQuantity(2);
+                    return orderLineItem;
+                })
+                .collect(Collectors.toList()));
+        return order;
+    }
+}
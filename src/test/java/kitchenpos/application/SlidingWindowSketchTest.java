@@ -0,0 +1,59 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.PopularMenu;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowSketchTest {
+    @Test
+    void boundsKeysEvictedFromOrNeverSeenInAFullSlot() {
+        final MovableClock clock = new MovableClock(Instant.parse("2020-01-01T00:00:00Z"));
+        final SlidingWindowSketch sketch = new SlidingWindowSketch(clock, Duration.ofMinutes(1), 2, 2);
+        sketch.add(1L, 5);
+        sketch.add(2L, 3);
+        clock.advance(Duration.ofMinutes(1));
+        sketch.add(1L, 4);
+        sketch.add(3L, 1);
+
+        final List<PopularMenu> top = sketch.top(3);
+
+        assertThat(top).extracting(PopularMenu::getMenuId).containsExactly(1L, 2L, 3L);
+        assertThat(top).extracting(PopularMenu::getCount).containsExactly(9L, 4L, 4L);
+        assertThat(top).extracting(PopularMenu::getError).containsExactly(0L, 1L, 3L);
+    }
+
+    private static class MovableClock extends Clock {
+        private Instant instant;
+
+        private MovableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,557 @@
+package kitchenpos.dao;
+
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.IdempotencyKey;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OutboxEvent;
+import kitchenpos.domain.PrepItem;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.RunningBill;
+import kitchenpos.domain.TableGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Behaviour every DAO backend must share.
+ */
+@SpringBootTest(properties = "kitchenpos.outbox.relay-interval=PT1H")
+@Transactional
+abstract class DaoContractTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 10, 1, 12, 30, 15, 123_000_000);
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private MenuGroupDao menuGroupDao;
+
+    @Autowired
+    private MenuDao menuDao;
+
+    @Autowired
+    private MenuProductDao menuProductDao;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private TableGroupDao tableGroupDao;
+
+    @Autowired
+    private OrderDao orderDao;
+
+    @Autowired
+    private OrderLineItemDao orderLineItemDao;
+
+    @Autowired
+    private IdempotencyKeyDao idempotencyKeyDao;
+
+    @Autowired
+    private OutboxEventDao outboxEventDao;
+
+    @Autowired
+    private RunningBillDao runningBillDao;
+
+    @Autowired
+    private SalesAggregateDao salesAggregateDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insertReturnsANewStoredCopy() {
+        final Product product = product("후라이드", "16000");
+
+        final Product saved = productDao.save(product);
+
+        assertThat(saved).isNotSameAs(product);
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getPrice()).isEqualTo(new BigDecimal("16000.00"));
+        assertThat(productDao.findById(saved.getId())).hasValueSatisfying(found -> {
+            assertThat(found).isNotSameAs(saved);
+            assertThat(found.getName()).isEqualTo("후라이드");
+            assertThat(found.getPrice()).isEqualTo(new BigDecimal("16000.00"));
+        });
+        assertThat(productDao.findById(0L)).isEmpty();
+    }
+
+    @Test
+    void insertIgnoresGivenIdsAndChildren() {
+        final Menu menu = menu(menuGroup().getId());
+        menu.setId(Long.MAX_VALUE);
+        menu.setMenuProducts(Collections.singletonList(new MenuProduct()));
+
+        final Menu saved = menuDao.save(menu);
+
+        assertThat(saved.getId()).isNotEqualTo(Long.MAX_VALUE);
+        assertThat(saved.getMenuProducts()).isNull();
+        assertThat(menuDao.findById(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void findAllByIdInSkipsMissingAndDuplicateIds() {
+        final Long menuGroupId = menuGroup().getId();
+        final Long first = menuDao.save(menu(menuGroupId)).getId();
+        final Long second = menuDao.save(menu(menuGroupId)).getId();
+        final List<Long> ids = Arrays.asList(second, first, second, 0L);
+
+        assertThat(menuDao.findAllByIdIn(ids)).extracting(Menu::getId)
+                .containsExactlyInAnyOrder(first, second);
+        assertThat(menuDao.countByIdIn(ids)).isEqualTo(2L);
+        assertThat(menuDao.findAllByIdIn(Collections.emptyList())).isEmpty();
+        assertThat(menuDao.countByIdIn(Collections.emptyList())).isZero();
+    }
+
+    @Test
+    void menuProductsAreFoundByMenu() {
+        final Long menuGroupId = menuGroup().getId();
+        final Menu menu = menuDao.save(menu(menuGroupId));
+        final Menu otherMenu = menuDao.save(menu(menuGroupId));
+        final Product product = productDao.save(product("양념치킨", "16000"));
+        menuProductDao.save(menuProduct(menu.getId(), product.getId()));
+        menuProductDao.save(menuProduct(menu.getId(), product.getId()));
+        menuProductDao.save(menuProduct(otherMenu.getId(), product.getId()));
+
+        assertThat(menuProductDao.findAllByMenuId(menu.getId())).hasSize(2)
+                .allSatisfy(menuProduct -> assertThat(menuProduct.getSeq()).isNotNull());
+        assertThat(menuProductDao.findAllByMenuId(0L)).isEmpty();
+        assertThat(menuGroupDao.existsById(menuGroupId)).isTrue();
+        assertThat(menuGroupDao.existsById(0L)).isFalse();
+    }
+
+    @Test
+    void updatingAnOrderTableMovesItBetweenTableGroups() {
+        final TableGroup first = tableGroupDao.save(tableGroup());
+        final TableGroup second = tableGroupDao.save(tableGroup());
+        final OrderTable orderTable = orderTableDao.save(orderTable(true));
+
+        orderTable.setTableGroupId(first.getId());
+        orderTable.setNumberOfGuests(4);
+        final OrderTable updated = orderTableDao.save(orderTable);
+        assertThat(updated).isSameAs(orderTable);
+        assertThat(orderTableDao.findAllByTableGroupId(first.getId())).extracting(OrderTable::getId)
+                .containsExactly(orderTable.getId());
+
+        orderTable.setTableGroupId(second.getId());
+        orderTableDao.save(orderTable);
+        assertThat(orderTableDao.findAllByTableGroupId(first.getId())).isEmpty();
+        assertThat(orderTableDao.findById(orderTable.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getTableGroupId()).isEqualTo(second.getId());
+            assertThat(found.getNumberOfGuests()).isEqualTo(4);
+            assertThat(found.isEmpty()).isTrue();
+        });
+
+        orderTable.setTableGroupId(null);
+        orderTableDao.save(orderTable);
+        assertThat(orderTableDao.findAllByTableGroupId(second.getId())).isEmpty();
+        assertThat(orderTableDao.findById(orderTable.getId()).get().getTableGroupId()).isNull();
+    }
+
+    @Test
+    void updatingAnOrderOnlyChangesItsStatus() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final OrderTable otherTable = orderTableDao.save(orderTable(false));
+        final Order order = orderDao.save(order(orderTable.getId()));
+        assertThat(order.getOrderedTime()).isEqualTo(NOW);
+        assertThat(order.getOrderLineItems()).isNull();
+
+        order.setOrderTableId(otherTable.getId());
+        order.setOrderStatus(OrderStatus.MEAL.name());
+        assertThat(orderDao.save(order)).isSameAs(order);
+
+        assertThat(orderDao.findById(order.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getOrderTableId()).isEqualTo(orderTable.getId());
+            assertThat(found.getOrderStatus()).isEqualTo(OrderStatus.MEAL.name());
+        });
+
+        final Order missing = order(orderTable.getId());
+        missing.setId(0L);
+        orderDao.save(missing);
+        assertThat(orderDao.findById(0L)).isEmpty();
+    }
+
+    @Test
+    void ordersAreFoundByTableAndStatus() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final OrderTable otherTable = orderTableDao.save(orderTable(false));
+        final Order order = order(orderTable.getId());
+        order.setOrderStatus(OrderStatus.COMPLETION.name());
+        orderDao.save(order);
+        orderDao.save(order(otherTable.getId()));
+
+        final List<String> unfinished = Arrays.asList(OrderStatus.COOKING.name(), OrderStatus.MEAL.name());
+        assertThat(orderDao.existsByOrderTableIdAndOrderStatusIn(orderTable.getId(), unfinished)).isFalse();
+        assertThat(orderDao.existsByOrderTableIdAndOrderStatusIn(otherTable.getId(), unfinished)).isTrue();
+        assertThat(orderDao.existsByOrderTableIdInAndOrderStatusIn(
+                Arrays.asList(orderTable.getId(), otherTable.getId()), unfinished)).isTrue();
+        assertThat(orderDao.existsByOrderTableIdInAndOrderStatusIn(
+                Collections.singletonList(orderTable.getId()), unfinished)).isFalse();
+    }
+
+    @Test
+    void batchInsertsAssignIdsToOrdersOnly() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final List<Order> orders = Arrays.asList(order(orderTable.getId()), order(orderTable.getId()));
+
+        final List<Order> saved = orderDao.saveAll(orders);
+
+        assertThat(saved).isSameAs(orders);
+        assertThat(saved).extracting(Order::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(saved.get(0).getId()).isLessThan(saved.get(1).getId());
+
+        final Long menuId = menuDao.save(menu(menuGroup().getId())).getId();
+        final List<OrderLineItem> orderLineItems = Arrays.asList(
+                orderLineItem(saved.get(0).getId(), menuId, 1),
+                orderLineItem(saved.get(0).getId(), menuId, 2),
+                orderLineItem(saved.get(1).getId(), menuId, 3));
+        orderLineItemDao.saveAll(orderLineItems);
+
+        assertThat(orderLineItems).extracting(OrderLineItem::getSeq).containsOnlyNulls();
+        assertThat(orderLineItemDao.findAllByOrderId(saved.get(0).getId())).extracting(OrderLineItem::getQuantity)
+                .containsExactly(1L, 2L);
+        assertThat(orderLineItemDao.findAllByOrderIdIn(saved.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList()))).extracting(OrderLineItem::getQuantity)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void ordersAreStreamedWithTheirLineItems() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final Long menuId = menuDao.save(menu(menuGroup().getId())).getId();
+        final Order order = orderDao.save(order(orderTable.getId()));
+        final Order withoutLineItems = orderDao.save(order(orderTable.getId()));
+        orderLineItemDao.save(orderLineItem(order.getId(), menuId, 1));
+        orderLineItemDao.save(orderLineItem(order.getId(), menuId, 2));
+
+        final List<Order> streamed = new ArrayList<>();
+        orderDao.findAllWithOrderLineItems(streamed::add);
+
+        assertThat(streamed).hasSameSizeAs(orderDao.findAll());
+        assertThat(streamed).filteredOn(found -> found.getId().equals(order.getId()))
+                .hasSize(1)
+                .allSatisfy(found -> assertThat(found.getOrderLineItems()).extracting(OrderLineItem::getQuantity)
+                        .containsExactly(1L, 2L));
+        assertThat(streamed).filteredOn(found -> found.getId().equals(withoutLineItems.getId()))
+                .hasSize(1)
+                .allSatisfy(found -> assertThat(found.getOrderLineItems()).isEmpty());
+    }
+
+    @Test
+    void menusAreStreamedWithTheirMenuProducts() {
+        final Menu menu = menuDao.save(menu(menuGroup().getId()));
+        final Product product = productDao.save(product("간장치킨", "17000"));
+        menuProductDao.save(menuProduct(menu.getId(), product.getId()));
+
+        final List<Menu> streamed = new ArrayList<>();
+        menuDao.findAllWithMenuProducts(streamed::add);
+
+        assertThat(streamed).hasSameSizeAs(menuDao.findAll());
+        assertThat(streamed).filteredOn(found -> found.getId().equals(menu.getId()))
+                .hasSize(1)
+                .allSatisfy(found -> assertThat(found.getMenuProducts()).extracting(MenuProduct::getProductId)
+                        .containsExactly(product.getId()));
+    }
+
+    @Test
+    void onlyTheRequestedOrderFieldsAreRead() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final Long menuId = menuDao.save(menu(menuGroup().getId())).getId();
+        final Order order = orderDao.save(order(orderTable.getId()));
+        orderLineItemDao.save(orderLineItem(order.getId(), menuId, 3));
+
+        final List<Order> statuses = new ArrayList<>();
+        orderDao.findAll(Collections.singletonList("orderStatus"), statuses::add);
+        final List<Order> lineItems = new ArrayList<>();
+        orderDao.findAll(Collections.singletonList(OrderDao.ORDER_LINE_ITEMS), lineItems::add);
+
+        assertThat(statuses).filteredOn(found -> found.getId().equals(order.getId()))
+                .hasSize(1)
+                .allSatisfy(found -> {
+                    assertThat(found.getOrderStatus()).isEqualTo(order.getOrderStatus());
+                    assertThat(found.getOrderTableId()).isNull();
+                    assertThat(found.getOrderedTime()).isNull();
+                    assertThat(found.getOrderLineItems()).isNull();
+                });
+        assertThat(lineItems).filteredOn(found -> found.getId().equals(order.getId()))
+                .hasSize(1)
+                .allSatisfy(found -> {
+                    assertThat(found.getOrderStatus()).isNull();
+                    assertThat(found.getOrderLineItems()).extracting(OrderLineItem::getQuantity)
+                            .containsExactly(3L);
+                });
+    }
+
+    @Test
+    void onlyTheRequestedMenuFieldsAreRead() {
+        final Menu menu = menuDao.save(menu(menuGroup().getId()));
+        final Product product = productDao.save(product("간장치킨", "17000"));
+        menuProductDao.save(menuProduct(menu.getId(), product.getId()));
+
+        final List<Menu> names = new ArrayList<>();
+        menuDao.findAll(Arrays.asList("name", "price"), names::add);
+
+        assertThat(names).hasSameSizeAs(menuDao.findAll());
+        assertThat(names).filteredOn(found -> found.getId().equals(menu.getId()))
+                .hasSize(1)
+                .allSatisfy(found -> {
+                    assertThat(found.getName()).isEqualTo(menu.getName());
+                    assertThat(found.getPrice()).isEqualByComparingTo(menu.getPrice());
+                    assertThat(found.getMenuGroupId()).isNull();
+                    assertThat(found.getMenuProducts()).isNull();
+                });
+    }
+
+    @Test
+    void quantitiesAreSummedPerMenuForAStatus() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final Long menuGroupId = menuGroup().getId();
+        final Long menuId = menuDao.save(menu(menuGroupId)).getId();
+        final Long otherMenuId = menuDao.save(menu(menuGroupId)).getId();
+        final String status = "CONTRACT-" + UUID.randomUUID();
+        final Order order = order(orderTable.getId());
+        order.setOrderStatus(status);
+        final Long orderId = orderDao.save(order).getId();
+        final Long otherOrderId = orderDao.save(order(orderTable.getId())).getId();
+        orderLineItemDao.save(orderLineItem(orderId, menuId, 2));
+        orderLineItemDao.save(orderLineItem(orderId, otherMenuId, 1));
+        orderLineItemDao.save(orderLineItem(otherOrderId, menuId, 5));
+        final Order changed = orderDao.save(order(orderTable.getId()));
+        changed.setOrderStatus(status);
+        orderDao.save(changed);
+        orderLineItemDao.save(orderLineItem(changed.getId(), menuId, 3));
+
+        assertThat(orderLineItemDao.sumQuantityGroupByMenuIdByOrderStatus(status))
+                .extracting(PrepItem::getMenuId, PrepItem::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(menuId, 5L),
+                        tuple(otherMenuId, 1L));
+    }
+
+    @Test
+    void nullColumnsAndMissingReferencesAreRejected() {
+        final OrderTable orderTable = orderTableDao.save(orderTable(false));
+        final Order withoutStatus = order(orderTable.getId());
+        withoutStatus.setOrderStatus(null);
+
+        assertThatThrownBy(() -> orderDao.save(withoutStatus))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> orderDao.save(order(0L)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> menuDao.save(menu(0L)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> productDao.save(product(String.join("", Collections.nCopies(256, "a")), "1")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> runningBillDao.add(0L, BigDecimal.ONE, 1, 1))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void idempotencyKeysAreUniqueAndExpire() {
+        final String key = UUID.randomUUID().toString();
+        idempotencyKeyDao.save(idempotencyKey(key, NOW.minusDays(1)));
+        idempotencyKeyDao.save(idempotencyKey(UUID.randomUUID().toString(), NOW.plusDays(1)));
+
+        assertThatThrownBy(() -> idempotencyKeyDao.save(idempotencyKey(key, NOW)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(idempotencyKeyDao.findById(key)).hasValueSatisfying(found ->
+                assertThat(found).extracting(IdempotencyKey::getRequestHash, IdempotencyKey::getResponseBody)
+                        .containsExactly("hash", "{}"));
+        assertThat(idempotencyKeyDao.deleteAllByCreatedDateBefore(NOW)).isGreaterThanOrEqualTo(1);
+        assertThat(idempotencyKeyDao.findById(key)).isEmpty();
+    }
+
+    @Test
+    void outboxEventsAreReadInIdOrderAndDeleted() {
+        final long before = outboxEventDao.count();
+        final OutboxEvent event = outboxEvent();
+        final OutboxEvent saved = outboxEventDao.save(event);
+        final OutboxEvent next = outboxEventDao.save(outboxEvent());
+
+        assertThat(saved).isSameAs(event);
+        assertThat(outboxEventDao.count()).isEqualTo(before + 2);
+        assertThat(outboxEventDao.findMinCreatedDate()).hasValueSatisfying(createdDate ->
+                assertThat(createdDate).isBeforeOrEqualTo(NOW));
+        final List<OutboxEvent> events = outboxEventDao.findFirstOrderById(Integer.MAX_VALUE);
+        assertThat(events).extracting(OutboxEvent::getId).isSorted()
+                .contains(saved.getId(), next.getId());
+
+        outboxEventDao.deleteAllByIdIn(Arrays.asList(saved.getId(), next.getId()));
+        assertThat(outboxEventDao.count()).isEqualTo(before);
+    }
+
+    @Test
+    void runningBillsAccumulatePerTable() {
+        final TableGroup tableGroup = tableGroupDao.save(tableGroup());
+        final OrderTable orderTable = orderTable(false);
+        orderTable.setTableGroupId(tableGroup.getId());
+        final Long orderTableId = orderTableDao.save(orderTable).getId();
+
+        runningBillDao.add(orderTableId, new BigDecimal("16000"), 1, 1);
+        runningBillDao.add(orderTableId, new BigDecimal("500.5"), 1, -1);
+
+        assertThat(runningBillDao.findById(orderTableId)).hasValueSatisfying(runningBill -> {
+            assertThat(runningBill.getAmount()).isEqualTo(new BigDecimal("16500.50"));
+            assertThat(runningBill.getOrderCount()).isEqualTo(2L);
+            assertThat(runningBill.getOpenOrderCount()).isZero();
+        });
+        assertThat(runningBillDao.findAllByTableGroupId(tableGroup.getId())).extracting(RunningBill::getOrderTableId)
+                .containsExactly(orderTableId);
+
+        runningBillDao.deleteById(orderTableId);
+        assertThat(runningBillDao.findById(orderTableId)).isEmpty();
+    }
+
+    @Test
+    void salesAccumulatePerKey() {
+        final MenuGroup menuGroup = menuGroup();
+        final Menu menu = menuDao.save(menu(menuGroup.getId()));
+        final LocalDateTime hourBucket = LocalDateTime.of(1999, 1, 1, 10, 0);
+
+        salesAggregateDao.addMenuSales(menu.getId(), 2, new BigDecimal("32000"));
+        salesAggregateDao.addMenuSales(menu.getId(), 1, new BigDecimal("16000"));
+        salesAggregateDao.addMenuGroupSales(menuGroup.getId(), 3, new BigDecimal("48000"));
+        salesAggregateDao.addHourlySales(hourBucket, 1, 2, new BigDecimal("32000"));
+        salesAggregateDao.addHourlySales(hourBucket, 1, 1, new BigDecimal("16000"));
+        salesAggregateDao.addHourlySales(hourBucket.plusHours(1), 1, 1, new BigDecimal("16000"));
+
+        assertThat(salesAggregateDao.findAllMenuSales())
+                .filteredOn(menuSales -> menuSales.getMenuId().equals(menu.getId()))
+                .hasSize(1)
+                .allSatisfy(menuSales -> {
+                    assertThat(menuSales.getQuantity()).isEqualTo(3L);
+                    assertThat(menuSales.getRevenue()).isEqualTo(new BigDecimal("48000.00"));
+                });
+        assertThat(salesAggregateDao.findAllMenuGroupSales())
+                .filteredOn(menuGroupSales -> menuGroupSales.getMenuGroupId().equals(menuGroup.getId()))
+                .hasSize(1);
+        assertThat(salesAggregateDao.findAllHourlySalesByHourBucketBetween(hourBucket, hourBucket.plusHours(2)))
+                .extracting(HourlySales::getOrderCount)
+                .containsExactly(2L, 1L);
+        assertThat(salesAggregateDao.findAllHourlySalesByHourBucketBetween(hourBucket, hourBucket.plusHours(1)))
+                .hasSize(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void rolledBackWritesAreUndone() {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final Long[] ids = new Long[2];
+
+        transactionTemplate.execute(status -> {
+            ids[0] = productDao.save(product("통구이", "16000")).getId();
+            final OrderTable orderTable = orderTableDao.findById(1L).get();
+            orderTable.setNumberOfGuests(99);
+            orderTableDao.save(orderTable);
+            ids[1] = orderTable.getId();
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertThat(productDao.findById(ids[0])).isEmpty();
+        assertThat(orderTableDao.findById(ids[1]).get().getNumberOfGuests()).isNotEqualTo(99);
+    }
+
+    private MenuGroup menuGroup() {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setName("신메뉴");
+        return menuGroupDao.save(menuGroup);
+    }
+
+    private static Product product(final String name, final String price) {
+        final Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        return product;
+    }
+
+    private static Menu menu(final Long menuGroupId) {
+        final Menu menu = new Menu();
+        menu.setName("후라이드치킨");
+        menu.setPrice(new BigDecimal("16000"));
+        menu.setMenuGroupId(menuGroupId);
+        return menu;
+    }
+
+    private static MenuProduct menuProduct(final Long menuId, final Long productId) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setMenuId(menuId);
+        menuProduct.setProductId(productId);
+        menuProduct.setQuantity(1);
+        return menuProduct;
+    }
+
+    private static OrderTable orderTable(final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(0);
+        orderTable.setEmpty(empty);
+        return orderTable;
+    }
+
+    private static TableGroup tableGroup() {
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setCreatedDate(NOW);
+        return tableGroup;
+    }
+
+    private static Order order(final Long orderTableId) {
+        final Order order = new Order();
+        order.setOrderTableId(orderTableId);
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderedTime(NOW);
+        return order;
+    }
+
+    private static OrderLineItem orderLineItem(final Long orderId, final Long menuId, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setOrderId(orderId);
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setQuantity(quantity);
+        return orderLineItem;
+    }
+
+    private static IdempotencyKey idempotencyKey(final String key, final LocalDateTime createdDate) {
+        final IdempotencyKey idempotencyKey = new IdempotencyKey();
+        idempotencyKey.setIdempotencyKey(key);
+        idempotencyKey.setRequestHash("hash");
+        idempotencyKey.setResponseBody("{}");
+        idempotencyKey.setCreatedDate(createdDate);
+        return idempotencyKey;
+    }
+
+    private static OutboxEvent outboxEvent() {
+        final OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateType("order");
+        outboxEvent.setAggregateId(1L);
+        outboxEvent.setEventType("OrderCreated");
+        outboxEvent.setPayload("{}");
+        outboxEvent.setCreatedDate(NOW);
+        return outboxEvent;
+    }
+}
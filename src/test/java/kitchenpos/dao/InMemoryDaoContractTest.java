@@ -0,0 +1,7 @@
+package kitchenpos.dao;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("in-memory")
+class InMemoryDaoContractTest extends DaoContractTest {
+}
@@ -0,0 +1,4 @@
+package kitchenpos.dao;
+
+class JdbcTemplateDaoContractTest extends DaoContractTest {
+}
@@ -0,0 +1,138 @@
+package kitchenpos.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderJournalTest {
+    private static final int HEADER_SIZE = 16;
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private OrderJournal orderJournal;
+
+    @AfterEach
+    void tearDown() {
+        if (orderJournal != null) {
+            orderJournal.close();
+        }
+    }
+
+    @Test
+    void recoveryDropsATornTailAndContinuesTheSequence() throws Exception {
+        orderJournal = open(SEGMENT_SIZE);
+        append("first", "second", "third");
+        orderJournal.close();
+        corrupt(segments().get(0), HEADER_SIZE * 2 + "first".length() + "second".length() + HEADER_SIZE);
+
+        orderJournal = open(SEGMENT_SIZE);
+
+        assertThat(orderJournal.getDurableSequence()).isEqualTo(2L);
+        assertThat(payloads(orderJournal.read(10))).containsExactly("first", "second");
+        assertThat(append("fourth")).containsExactly(3L);
+        assertThat(payloads(orderJournal.read(10))).containsExactly("fourth");
+    }
+
+    @Test
+    void recordsRollOverIntoNewSegments() throws Exception {
+        final int oneRecordPerSegment = HEADER_SIZE + "record-1".length() + 8;
+        orderJournal = open(oneRecordPerSegment);
+
+        append("record-1", "record-2", "record-3", "record-4");
+
+        assertThat(segments()).hasSize(4);
+        assertThat(payloads(orderJournal.read(10))).containsExactly("record-1", "record-2", "record-3", "record-4");
+
+        orderJournal.writeCheckpoint(2);
+        orderJournal.close();
+        orderJournal = open(oneRecordPerSegment);
+
+        assertThat(segments()).hasSize(2);
+        assertThat(payloads(orderJournal.read(10))).containsExactly("record-3", "record-4");
+    }
+
+    @Test
+    void seekRereadsRecordsAfterAFailedApply() throws Exception {
+        orderJournal = open(SEGMENT_SIZE);
+        append("first", "second", "third");
+        assertThat(payloads(orderJournal.read(10))).containsExactly("first", "second", "third");
+
+        orderJournal.seek(1);
+
+        assertThat(payloads(orderJournal.read(10))).containsExactly("second", "third");
+    }
+
+    @Test
+    void appendsAfterCloseFailInsteadOfHanging() throws Exception {
+        orderJournal = open(SEGMENT_SIZE);
+        orderJournal.close();
+
+        final CompletableFuture<Long> future = orderJournal.append(bytes("late"));
+
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private OrderJournal open(final int segmentSize) throws IOException {
+        final OrderJournal journal = new OrderJournal(directory, segmentSize, 8, Duration.ZERO);
+        journal.open();
+        return journal;
+    }
+
+    private List<Long> append(final String... payloads) throws Exception {
+        final List<CompletableFuture<Long>> futures = Stream.of(payloads)
+                .map(payload -> orderJournal.append(bytes(payload)))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    private void corrupt(final Path segment, final int position) throws IOException {
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.put(position, (byte) (buffer.get(position) ^ 0xFF));
+            buffer.force();
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".segment"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> payloads(final List<JournalRecord> records) {
+        return records.stream()
+                .map(record -> new String(record.getPayload(), StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] bytes(final String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,94 @@
+package kitchenpos.replica;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.application.TableService;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "kitchenpos.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "kitchenpos.replica.migrate=true",
+        "kitchenpos.replica.max-staleness=PT10S",
+        "kitchenpos.replica.heartbeat-interval=PT1H"
+})
+class ReplicaRoutingTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private OrderDao orderDao;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate.update("INSERT INTO orders (order_table_id, order_status, ordered_time)"
+                + " VALUES (1, 'COOKING', CURRENT_TIMESTAMP)");
+        beatReplica(System.currentTimeMillis());
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaJdbcTemplate.update("DELETE FROM orders");
+        ReadConsistency.end();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() {
+        assertThat(orderService.list()).hasSize(replicaOrderCount());
+        assertThat(orderDao.findAll()).hasSize(replicaOrderCount() - 1);
+    }
+
+    @Test
+    void pinnedRequestsReadFromPrimary() {
+        ReadConsistency.begin(true);
+
+        assertThat(orderService.list()).hasSize(replicaOrderCount() - 1);
+    }
+
+    @Test
+    void writesPinLaterReadsOfTheSameRequest() {
+        ReadConsistency.begin(false);
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(true);
+        tableService.create(orderTable);
+
+        assertThat(orderService.list()).hasSize(replicaOrderCount() - 1);
+    }
+
+    @Test
+    void staleReplicaIsBypassed() {
+        beatReplica(System.currentTimeMillis() - 60_000L);
+
+        assertThat(orderService.list()).hasSize(replicaOrderCount() - 1);
+    }
+
+    private void beatReplica(final long beatAt) {
+        replicaJdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beatAt);
+        replicaLagMonitor.refresh();
+    }
+
+    private int replicaOrderCount() {
+        return replicaJdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+    }
+}
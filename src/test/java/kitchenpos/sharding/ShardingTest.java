@@ -0,0 +1,165 @@
+package kitchenpos.sharding;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding-main;DB_CLOSE_DELAY=-1",
+        "kitchenpos.sharding.enabled=true",
+        "kitchenpos.sharding.allow-unsharded-side-effects=true",
+        "kitchenpos.sharding.shards[0].name=a",
+        "kitchenpos.sharding.shards[0].url=jdbc:h2:mem:shard-a;DB_CLOSE_DELAY=-1",
+        "kitchenpos.sharding.shards[1].name=b",
+        "kitchenpos.sharding.shards[1].url=jdbc:h2:mem:shard-b;DB_CLOSE_DELAY=-1",
+        "kitchenpos.sharding.shards[2].name=c",
+        "kitchenpos.sharding.shards[2].url=jdbc:h2:mem:shard-c;DB_CLOSE_DELAY=-1"
+})
+class ShardingTest {
+    private static final int TABLE_COUNT = 60;
+
+    @Autowired
+    private Shards shards;
+
+    @Autowired
+    private OrderDao orderDao;
+
+    @Autowired
+    private OrderLineItemDao orderLineItemDao;
+
+    @Autowired
+    private OrderService orderService;
+
+    private final List<Shard> extraShards = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        final List<Shard> all = new ArrayList<>(shards.all());
+        all.addAll(extraShards);
+        for (final Shard shard : all) {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(shard.getDataSource());
+            jdbcTemplate.update("DELETE FROM order_line_item");
+            jdbcTemplate.update("DELETE FROM orders");
+        }
+        shards.forget();
+    }
+
+    @Test
+    void ordersAndLineItemsLiveOnTheShardOwningTheirTable() {
+        final List<Order> orders = saveOrders();
+
+        for (final Order order : orders) {
+            final JdbcTemplate owner = new JdbcTemplate(shards.route(order.getOrderTableId()).getDataSource());
+            assertThat(owner.queryForObject("SELECT COUNT(*) FROM orders WHERE id = ?", Long.class, order.getId()))
+                    .isEqualTo(1L);
+            assertThat(owner.queryForObject("SELECT COUNT(*) FROM order_line_item WHERE order_id = ?", Long.class,
+                    order.getId())).isEqualTo(2L);
+        }
+        assertThat(orders.stream().map(order -> shards.route(order.getOrderTableId())).distinct())
+                .hasSize(shards.all().size());
+    }
+
+    @Test
+    void idsAreUniqueAcrossShards() {
+        final List<Order> orders = saveOrders();
+
+        assertThat(orders.stream().map(Order::getId).collect(Collectors.toSet())).hasSize(TABLE_COUNT);
+        assertThat(orderLineItemDao.findAll().stream().map(OrderLineItem::getSeq).collect(Collectors.toSet()))
+                .hasSize(TABLE_COUNT * 2);
+    }
+
+    @Test
+    void listGathersEveryShard() {
+        saveOrders();
+        shards.forget();
+
+        final List<Order> orders = orderService.list();
+
+        assertThat(orders).hasSize(TABLE_COUNT);
+        assertThat(orders).allSatisfy(order -> assertThat(order.getOrderLineItems()).hasSize(2));
+        assertThat(orderDao.findById(orders.get(0).getId())).isPresent();
+        assertThat(orderLineItemDao.findAllByOrderId(orders.get(0).getId())).hasSize(2);
+    }
+
+    @Test
+    void existsIsAnsweredByTheOwningShard() {
+        saveOrders();
+        final List<String> cooking = Collections.singletonList(OrderStatus.COOKING.name());
+
+        assertThat(orderDao.existsByOrderTableIdAndOrderStatusIn(1L, cooking)).isTrue();
+        assertThat(orderDao.existsByOrderTableIdAndOrderStatusIn(TABLE_COUNT + 1L, cooking)).isFalse();
+        assertThat(orderDao.existsByOrderTableIdInAndOrderStatusIn(
+                Arrays.asList(TABLE_COUNT + 1L, TABLE_COUNT + 2L, 2L), cooking)).isTrue();
+        assertThat(orderDao.existsByOrderTableIdInAndOrderStatusIn(
+                Arrays.asList(TABLE_COUNT + 1L, TABLE_COUNT + 2L), cooking)).isFalse();
+    }
+
+    @Test
+    void rebalancerMovesOrdersToTheirOwnerOnTheGrownRing() {
+        saveOrders();
+        final Shard added = new Shard("d", shards.all().size(),
+                new DriverManagerDataSource("jdbc:h2:mem:shard-d;DB_CLOSE_DELAY=-1", "sa", ""));
+        added.migrate();
+        extraShards.add(added);
+        final List<Shard> grown = new ArrayList<>(shards.all());
+        grown.add(added);
+        final Shards grownShards = new Shards(grown, 128, 0);
+
+        final long moved = new ShardRebalancer(grownShards, 7).rebalance();
+
+        assertThat(moved).isPositive().isLessThan(TABLE_COUNT);
+        final List<Order> orders = new ArrayList<>();
+        for (final Shard shard : grown) {
+            final List<Order> shardOrders = shard.orderDao().findAll();
+            assertThat(shardOrders).allSatisfy(order ->
+                    assertThat(grownShards.route(order.getOrderTableId())).isSameAs(shard));
+            for (final Order order : shardOrders) {
+                assertThat(shard.orderLineItemDao().findAllByOrderId(order.getId())).hasSize(2);
+            }
+            orders.addAll(shardOrders);
+        }
+        assertThat(new HashSet<>(orders.stream().map(Order::getId).collect(Collectors.toList())))
+                .hasSize(TABLE_COUNT);
+    }
+
+    private List<Order> saveOrders() {
+        final List<Order> orders = new ArrayList<>();
+        for (long orderTableId = 1; orderTableId <= TABLE_COUNT; orderTableId++) {
+            final Order order = new Order();
+            order.setOrderTableId(orderTableId);
+            order.setOrderStatus(OrderStatus.COOKING.name());
+            order.setOrderedTime(LocalDateTime.now());
+            final Order savedOrder = orderDao.save(order);
+            orderLineItemDao.saveAll(Arrays.asList(lineItem(savedOrder, 1L), lineItem(savedOrder, 2L)));
+            orders.add(savedOrder);
+        }
+        return orders;
+    }
+
+    private OrderLineItem lineItem(final Order order, final Long menuId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setOrderId(order.getId());
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setQuantity(1);
+        return orderLineItem;
+    }
+}
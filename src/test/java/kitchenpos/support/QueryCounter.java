@@ -0,0 +1,35 @@
+package kitchenpos.support;
+
+import kitchenpos.monitoring.SqlStatementListener;
+
+/**
+ * Counts only the statements run by the calling thread while {@link #count} is active, so
+ * scheduled jobs and other background threads do not leak into the budget.
+ */
+public class QueryCounter implements SqlStatementListener {
+    private final ThreadLocal<long[]> count = new ThreadLocal<>();
+
+    @Override
+    public void onExecuted(final String sql, final long elapsedNanos, final boolean success) {
+        final long[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+    }
+
+    public long count(final ThrowingRunnable runnable) throws Exception {
+        final long[] current = new long[1];
+        count.set(current);
+        try {
+            runnable.run();
+        } finally {
+            count.remove();
+        }
+        return current[0];
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
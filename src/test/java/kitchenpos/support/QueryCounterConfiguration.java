@@ -0,0 +1,12 @@
+package kitchenpos.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class QueryCounterConfiguration {
+    @Bean
+    public QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+}
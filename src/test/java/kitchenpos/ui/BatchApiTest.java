@@ -0,0 +1,103 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.domain.BatchOperationResult;
+import kitchenpos.domain.BatchResult;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class BatchApiTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private OrderDao orderDao;
+
+    @Test
+    void seatsAPartyInOneCall() throws Exception {
+        final BatchResult result = execute("{\"operations\": ["
+                + "{\"type\": \"CHANGE_EMPTY\", \"targetId\": 1, \"body\": {\"empty\": false}},"
+                + "{\"type\": \"CHANGE_NUMBER_OF_GUESTS\", \"targetId\": 1, \"body\": {\"numberOfGuests\": 4}},"
+                + "{\"type\": \"CREATE_ORDER\", \"body\": {\"orderTableId\": 1, \"orderLineItems\": [{\"menuId\": 1, \"quantity\": 2}]}}"
+                + "]}");
+
+        assertThat(result.isRolledBack()).isFalse();
+        assertThat(result.getResults()).extracting(BatchOperationResult::isSucceeded)
+                .containsExactly(true, true, true);
+        assertThat(orderTableDao.findById(1L)).get()
+                .extracting(OrderTable::getNumberOfGuests)
+                .isEqualTo(4);
+        assertThat(orderDao.existsByOrderTableIdAndOrderStatusIn(1L, Collections.singletonList(OrderStatus.COOKING.name())))
+                .isTrue();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void rollsBackEveryOperationWhenOneFails() throws Exception {
+        final BatchResult result = execute("{\"operations\": ["
+                + "{\"type\": \"CHANGE_EMPTY\", \"targetId\": 2, \"body\": {\"empty\": false}},"
+                + "{\"type\": \"CHANGE_NUMBER_OF_GUESTS\", \"targetId\": 3, \"body\": {\"numberOfGuests\": 4}},"
+                + "{\"type\": \"CHANGE_EMPTY\", \"targetId\": 3, \"body\": {\"empty\": false}}"
+                + "]}");
+
+        assertThat(result.isRolledBack()).isTrue();
+        assertThat(result.getResults()).extracting(BatchOperationResult::isSucceeded)
+                .containsExactly(true, false);
+        assertThat(result.getResults().get(1).getError()).isEqualTo("IllegalArgumentException");
+        assertThat(orderTableDao.findById(2L)).get()
+                .extracting(OrderTable::isEmpty)
+                .isEqualTo(true);
+    }
+
+    @Test
+    void continuesAfterAFailedOperationWhenAsked() throws Exception {
+        final BatchResult result = execute("{\"continueOnError\": true, \"operations\": ["
+                + "{\"type\": \"CHANGE_NUMBER_OF_GUESTS\", \"targetId\": 4, \"body\": {\"numberOfGuests\": 3}},"
+                + "{\"type\": \"CHANGE_EMPTY\", \"targetId\": 4, \"body\": {\"empty\": false}},"
+                + "{\"type\": \"CHANGE_NUMBER_OF_GUESTS\", \"targetId\": 4, \"body\": {\"numberOfGuests\": 3}}"
+                + "]}");
+
+        assertThat(result.isRolledBack()).isFalse();
+        assertThat(result.getResults()).extracting(BatchOperationResult::isSucceeded)
+                .containsExactly(false, true, true);
+        assertThat(orderTableDao.findById(4L)).get()
+                .extracting(OrderTable::getNumberOfGuests)
+                .isEqualTo(3);
+    }
+
+    private BatchResult execute(final String batchRequest) throws Exception {
+        final byte[] response = mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequest))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        return objectMapper.readValue(response, BatchResult.class);
+    }
+}
@@ -0,0 +1,106 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ContentNegotiationTest {
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    @Test
+    void listsInCborWithTheSameContentAsJson() throws Exception {
+        final Menu[] json = objectMapper.readValue(
+                contentOf(get("/api/menus"), MediaType.APPLICATION_JSON), Menu[].class);
+        final Menu[] cbor = cborHttpMessageConverter.getObjectMapper().readValue(
+                contentOf(get("/api/menus"), MediaType.APPLICATION_CBOR), Menu[].class);
+
+        assertThat(cbor).isNotEmpty();
+        assertThat((Object) cbor).usingRecursiveComparison()
+                .isEqualTo(json);
+    }
+
+    @Test
+    void streamsInTheAcceptedFormat() throws Exception {
+        final Menu[] json = objectMapper.readValue(
+                contentOf(get("/api/menus"), MediaType.APPLICATION_JSON), Menu[].class);
+        final Menu[] smile = smileHttpMessageConverter.getObjectMapper().readValue(
+                contentOf(get("/api/menus").param("stream", "true"), APPLICATION_SMILE), Menu[].class);
+
+        assertThat((Object) smile).usingRecursiveComparison()
+                .isEqualTo(json);
+    }
+
+    @Test
+    void readsAndWritesSmileBodies() throws Exception {
+        final Product product = new Product();
+        product.setName("치즈볼");
+        product.setPrice(BigDecimal.valueOf(3000));
+        final ObjectMapper smileMapper = smileHttpMessageConverter.getObjectMapper();
+
+        final MvcResult result = mockMvc.perform(post("/api/products")
+                .contentType(APPLICATION_SMILE)
+                .accept(APPLICATION_SMILE)
+                .content(smileMapper.writeValueAsBytes(product)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(APPLICATION_SMILE))
+                .andReturn();
+
+        final Product created = smileMapper.readValue(result.getResponse().getContentAsByteArray(), Product.class);
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getName()).isEqualTo("치즈볼");
+        assertThat(created.getPrice()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    void fallsBackToJsonForStreamsWithoutAnAcceptHeader() throws Exception {
+        mockMvc.perform(get("/api/menus").param("stream", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    private byte[] contentOf(
+            final MockHttpServletRequestBuilder request,
+            final MediaType mediaType
+    ) throws Exception {
+        return mockMvc.perform(request.accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
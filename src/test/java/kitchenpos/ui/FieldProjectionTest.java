@@ -0,0 +1,47 @@
+package kitchenpos.ui;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.everyItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class FieldProjectionTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void listsOnlyTheRequestedFields() throws Exception {
+        mockMvc.perform(get("/api/menus").param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("후라이드치킨"))
+                .andExpect(jsonPath("$[0].price").value(16000.0))
+                .andExpect(jsonPath("$[*]", everyItem(aMapWithSize(2))));
+    }
+
+    @Test
+    void streamsOnlyTheRequestedFields() throws Exception {
+        mockMvc.perform(get("/api/menus").param("fields", "id,menuProducts").param("stream", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].menuProducts[0].productId").value(1))
+                .andExpect(jsonPath("$[*]", everyItem(aMapWithSize(2))));
+    }
+
+    @Test
+    void rejectsUnknownFieldsBeforeStreaming() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/orders").param("fields", "id,secret").param("stream", "true")))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+}
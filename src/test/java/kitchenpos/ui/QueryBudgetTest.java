@@ -0,0 +1,300 @@
+package kitchenpos.ui;
+
+import kitchenpos.dao.MenuDao;
+import kitchenpos.dao.MenuProductDao;
+import kitchenpos.dao.OrderDao;
+import kitchenpos.dao.OrderLineItemDao;
+import kitchenpos.dao.OrderTableDao;
+import kitchenpos.dao.TableGroupDao;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.TableGroup;
+import kitchenpos.support.QueryCounter;
+import kitchenpos.support.QueryCounterConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "kitchenpos.outbox.relay-interval=PT1H",
+        "kitchenpos.idempotency.purge-interval=PT1H",
+        "kitchenpos.replica.heartbeat-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@Import(QueryCounterConfiguration.class)
+@Transactional
+class QueryBudgetTest {
+    private static final int SMALL = 1;
+    private static final int LARGE = 30;
+    private static final int MENU_COUNT = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private MenuDao menuDao;
+
+    @Autowired
+    private MenuProductDao menuProductDao;
+
+    @Autowired
+    private OrderDao orderDao;
+
+    @Autowired
+    private OrderLineItemDao orderLineItemDao;
+
+    @Autowired
+    private OrderTableDao orderTableDao;
+
+    @Autowired
+    private TableGroupDao tableGroupDao;
+
+    @Test
+    void listOrders() throws Exception {
+        assertBudgetIndependentOfSize(2, this::saveOrder, () -> get("/api/orders"));
+    }
+
+    @Test
+    void streamOrders() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/orders?stream=true"));
+    }
+
+    @Test
+    void listOrderFields() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/orders?fields=id,orderStatus"));
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/orders?fields=id,orderLineItems"));
+    }
+
+    @Test
+    void createOrder() throws Exception {
+        final long oneLine = countCreateOrder(1);
+        final long manyLines = countCreateOrder(MENU_COUNT);
+
+        assertThat(manyLines).isEqualTo(oneLine);
+        assertThat(manyLines).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void changeOrderStatus() throws Exception {
+        assertBudgetIndependentOfSize(4, this::saveOrder, () -> put("/api/orders/" + saveOrder().getId() + "/order-status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderStatus\": \"MEAL\"}"));
+    }
+
+    @Test
+    void listMenus() throws Exception {
+        assertBudgetIndependentOfSize(2, this::saveMenu, () -> get("/api/menus"));
+    }
+
+    @Test
+    void streamMenus() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveMenu, () -> get("/api/menus?stream=true"));
+    }
+
+    @Test
+    void listMenuFields() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveMenu, () -> get("/api/menus?fields=name,price"));
+        assertBudgetIndependentOfSize(1, this::saveMenu, () -> get("/api/menus?fields=name,menuProducts"));
+    }
+
+    @Test
+    void createMenu() throws Exception {
+        assertBudgetIndependentOfSize(6, this::saveMenu, () -> post("/api/menus")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"후라이드+후라이드\", \"price\": 19000, \"menuGroupId\": 1," +
+                        " \"menuProducts\": [{\"productId\": 1, \"quantity\": 2}]}"));
+    }
+
+    @Test
+    void listMenuGroups() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveMenu, () -> get("/api/menu-groups"));
+    }
+
+    @Test
+    void createMenuGroup() throws Exception {
+        assertBudgetIndependentOfSize(2, this::saveMenu, () -> post("/api/menu-groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"추천메뉴\"}"));
+    }
+
+    @Test
+    void listProducts() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveMenu, () -> get("/api/products"));
+    }
+
+    @Test
+    void createProduct() throws Exception {
+        assertBudgetIndependentOfSize(2, this::saveMenu, () -> post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"강정치킨\", \"price\": 17000}"));
+    }
+
+    @Test
+    void listTables() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/tables"));
+    }
+
+    @Test
+    void createTable() throws Exception {
+        assertBudgetIndependentOfSize(3, this::saveOrder, () -> post("/api/tables")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"numberOfGuests\": 0, \"empty\": true}"));
+    }
+
+    @Test
+    void changeEmpty() throws Exception {
+        assertBudgetIndependentOfSize(5, this::saveOrder, () -> put("/api/tables/" + saveTable(false).getId() + "/empty")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"empty\": true}"));
+    }
+
+    @Test
+    void changeNumberOfGuests() throws Exception {
+        assertBudgetIndependentOfSize(3, this::saveOrder,
+                () -> put("/api/tables/" + saveTable(false).getId() + "/number-of-guests")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"numberOfGuests\": 4}"));
+    }
+
+    @Test
+    void createTableGroup() throws Exception {
+        assertBudgetIndependentOfSize(6, this::saveOrder, () -> post("/api/table-groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderTables\": [{\"id\": " + saveTable(true).getId() + "}, {\"id\": "
+                        + saveTable(true).getId() + "}]}"));
+    }
+
+    @Test
+    void ungroup() throws Exception {
+        assertBudgetIndependentOfSize(5, this::saveOrder, () -> delete("/api/table-groups/" + saveTableGroup().getId()));
+    }
+
+    @Test
+    void salesReports() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/reports/sales/menus"));
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/reports/sales/menu-groups"));
+        assertBudgetIndependentOfSize(1, this::saveOrder,
+                () -> get("/api/reports/sales/hours?from=2020-01-01T00:00:00&to=2030-01-01T00:00:00"));
+    }
+
+    @Test
+    void popularMenus() throws Exception {
+        assertBudgetIndependentOfSize(0, this::saveOrder, () -> get("/api/menus/popular"));
+    }
+
+    @Test
+    void prepBoard() throws Exception {
+        assertBudgetIndependentOfSize(0, this::saveOrder, () -> get("/api/prep-board"));
+    }
+
+    @Test
+    void runningBills() throws Exception {
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/tables/1/bill"));
+        assertBudgetIndependentOfSize(1, this::saveOrder, () -> get("/api/table-groups/1/bill"));
+    }
+
+    private void assertBudgetIndependentOfSize(
+            final long budget,
+            final Supplier<?> fixture,
+            final Supplier<RequestBuilder> request
+    ) throws Exception {
+        IntStream.range(0, SMALL).forEach(i -> fixture.get());
+        final long small = count(request.get());
+
+        IntStream.range(0, LARGE).forEach(i -> fixture.get());
+        final long large = count(request.get());
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(budget);
+    }
+
+    private long count(final RequestBuilder request) throws Exception {
+        return queryCounter.count(() -> mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful()));
+    }
+
+    private long countCreateOrder(final int lineCount) throws Exception {
+        final String orderLineItems = IntStream.range(0, lineCount)
+                .mapToObj(i -> "{\"menuId\": " + (i + 1) + ", \"quantity\": 1}")
+                .collect(Collectors.joining(", "));
+        return count(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderTableId\": " + saveTable(false).getId() +
+                        ", \"orderLineItems\": [" + orderLineItems + "]}"));
+    }
+
+    private OrderTable saveTable(final boolean empty) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setEmpty(empty);
+        return orderTableDao.save(orderTable);
+    }
+
+    private TableGroup saveTableGroup() {
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.setCreatedDate(LocalDateTime.now());
+        final TableGroup savedTableGroup = tableGroupDao.save(tableGroup);
+        for (int i = 0; i < 2; i++) {
+            final OrderTable orderTable = saveTable(false);
+            orderTable.setTableGroupId(savedTableGroup.getId());
+            orderTableDao.save(orderTable);
+        }
+        return savedTableGroup;
+    }
+
+    private Order saveOrder() {
+        final Order order = new Order();
+        order.setOrderTableId(saveTable(false).getId());
+        order.setOrderStatus(OrderStatus.COOKING.name());
+        order.setOrderedTime(LocalDateTime.now());
+        final Order savedOrder = orderDao.save(order);
+
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setOrderId(savedOrder.getId());
+        orderLineItem.setMenuId(1L);
+        orderLineItem.setQuantity(2);
+        orderLineItemDao.save(orderLineItem);
+        return savedOrder;
+    }
+
+    private Menu saveMenu() {
+        final Menu menu = new Menu();
+        menu.setName("후라이드치킨");
+        menu.setPrice(BigDecimal.valueOf(16_000));
+        menu.setMenuGroupId(1L);
+        final Menu savedMenu = menuDao.save(menu);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setMenuId(savedMenu.getId());
+        menuProduct.setProductId(1L);
+        menuProduct.setQuantity(1);
+        savedMenu.setMenuProducts(Collections.singletonList(menuProductDao.save(menuProduct)));
+        return savedMenu;
+    }
+}